@@ -0,0 +1,122 @@
+package com.botanybay;
+
+import java.util.Optional;
+
+/**
+ * A place where Botany Bay trials are held: the voting zone of the same name,
+ * the NPC spawn and ban sign bound to it, and the trial currently running there
+ * along with the NPC of its accused.
+ *
+ * <p>Each arena runs at most one trial at a time. The NPC spawn and ban sign
+ * are kept as {@link StoredLocation}s and resolved only when used. Must only be
+ * used from the main server thread.</p>
+ */
+final class Arena {
+
+    private final String name;
+    private StoredLocation npcSpawn;
+    private StoredLocation banSign;
+    private TrialSession session;
+    private TrialCountdown countdown;
+    private TrialHud hud;
+    private NpcHandle accusedNpc;
+
+    Arena(final String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Optional<StoredLocation> getNpcSpawn() {
+        return Optional.ofNullable(npcSpawn);
+    }
+
+    void setNpcSpawn(final StoredLocation npcSpawn) {
+        this.npcSpawn = npcSpawn;
+    }
+
+    Optional<StoredLocation> getBanSign() {
+        return Optional.ofNullable(banSign);
+    }
+
+    void setBanSign(final StoredLocation banSign) {
+        this.banSign = banSign;
+    }
+
+    boolean isIdle() {
+        return session == null;
+    }
+
+    Optional<TrialSession> getSession() {
+        return Optional.ofNullable(session);
+    }
+
+    Optional<TrialHud> getHud() {
+        return Optional.ofNullable(hud);
+    }
+
+    Optional<NpcHandle> getAccusedNpc() {
+        return Optional.ofNullable(accusedNpc);
+    }
+
+    /**
+     * Stands the running trial's accused at the NPC spawn, replacing any NPC already there.
+     */
+    void setAccusedNpc(final NpcHandle accusedNpc) {
+        this.removeAccusedNpc();
+        this.accusedNpc = accusedNpc;
+    }
+
+    void removeAccusedNpc() {
+        if (accusedNpc != null) {
+            accusedNpc.remove();
+            accusedNpc = null;
+        }
+    }
+
+    /**
+     * Starts the countdown and shows the display for a newly opened trial.
+     */
+    void begin(final TrialSession session, final TrialCountdown countdown, final TrialHud hud) {
+        if (this.session != null) {
+            throw new IllegalStateException("Arena " + name + " is already hosting a trial");
+        }
+        this.session = session;
+        this.countdown = countdown;
+        this.hud = hud;
+        countdown.start();
+    }
+
+    /**
+     * Pushes the running trial's deadline back by the given number of ticks.
+     */
+    boolean extend(final long ticks) {
+        if (countdown == null) {
+            return false;
+        }
+        countdown.extend(ticks);
+        return true;
+    }
+
+    /**
+     * Stops the running trial's timers and display, removes its accused's NPC and frees the arena.
+     *
+     * @return the trial that was running, if any
+     */
+    Optional<TrialSession> end() {
+        final TrialSession ended = session;
+        if (countdown != null) {
+            countdown.cancel();
+        }
+        if (hud != null) {
+            hud.hide();
+        }
+        this.removeAccusedNpc();
+        session = null;
+        countdown = null;
+        hud = null;
+        return Optional.ofNullable(ended);
+    }
+}
@@ -0,0 +1,214 @@
+package com.botanybay;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+/**
+ * Persists each arena's voting zone, NPC spawn and ban sign, along with the
+ * ban board's signs, to {@code config/botanybay/arenas.conf}.
+ *
+ * <p>Locations are stored as a world key plus coordinates and restored as
+ * {@link StoredLocation}s, so loading the layout never loads a world. The
+ * layout is snapshotted on the main thread whenever it changes and written on a
+ * dedicated thread, which keeps writes in order without blocking the server.</p>
+ */
+final class ArenaLayoutStore {
+
+    private static final String FILE_NAME = "arenas.conf";
+    private static final String HEADER = "Botany Bay arena layout, maintained by the /botanybay set commands.\n"
+            + "Edit this file only while the server is stopped.";
+
+    private final HoconConfigurationLoader loader;
+    private final Logger logger;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "BotanyBay-ArenaLayout");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean loaded;
+
+    ArenaLayoutStore(final Path directory, final Logger logger) {
+        this.loader = HoconConfigurationLoader.builder()
+                .path(directory.resolve(FILE_NAME))
+                .defaultOptions(options -> options.header(HEADER))
+                .build();
+        this.logger = logger;
+    }
+
+    /**
+     * Registers the saved zones, binds the saved NPC spawns and ban signs to their arenas
+     * and rebuilds the ban board.
+     *
+     * <p>Entries that cannot be read are skipped with a warning. If the file
+     * itself cannot be read, later changes are not saved either, so the broken
+     * file is left for an administrator to repair.</p>
+     *
+     * @return the number of arenas restored
+     */
+    int load(final VoteZoneRegistry zoneRegistry, final TrialDispatcher dispatcher, final BanBoard banBoard)
+            throws ConfigurateException {
+        final CommentedConfigurationNode root = this.loader.load();
+        int restored = 0;
+        for (final Map.Entry<Object, CommentedConfigurationNode> entry : root.node("arenas").childrenMap().entrySet()) {
+            final String name = String.valueOf(entry.getKey());
+            final CommentedConfigurationNode node = entry.getValue();
+            try {
+                if (!node.node("zone").virtual()) {
+                    zoneRegistry.register(readZone(name, node.node("zone")));
+                }
+                final Arena arena = dispatcher.arena(name);
+                if (!node.node("npc-spawn").virtual()) {
+                    arena.setNpcSpawn(readLocation(node.node("npc-spawn")));
+                }
+                if (!node.node("ban-sign").virtual()) {
+                    arena.setBanSign(readLocation(node.node("ban-sign")));
+                }
+                restored++;
+            } catch (final IllegalArgumentException ex) {
+                this.logger.warn("Skipping unreadable Botany Bay arena '{}': {}", name, ex.getMessage());
+            }
+        }
+
+        final List<StoredLocation> boardSigns = new ArrayList<>();
+        for (final CommentedConfigurationNode sign : root.node("ban-board", "signs").childrenList()) {
+            try {
+                boardSigns.add(readLocation(sign));
+            } catch (final IllegalArgumentException ex) {
+                this.logger.warn("Skipping unreadable Botany Bay ban board sign: {}", ex.getMessage());
+            }
+        }
+        if (!boardSigns.isEmpty()) {
+            banBoard.bind(boardSigns);
+        }
+
+        this.loaded = true;
+        return restored;
+    }
+
+    /**
+     * Snapshots the current layout and writes it in the background.
+     */
+    void save(final VoteZoneRegistry zoneRegistry, final TrialDispatcher dispatcher, final BanBoard banBoard) {
+        if (!this.loaded) {
+            return;
+        }
+
+        final CommentedConfigurationNode root = this.loader.createNode();
+        try {
+            final CommentedConfigurationNode arenas = root.node("arenas");
+            for (final Arena arena : dispatcher.arenas()) {
+                final CommentedConfigurationNode node = arenas.node(arena.getName());
+                final Optional<StoredLocation> npcSpawn = arena.getNpcSpawn();
+                if (npcSpawn.isPresent()) {
+                    writeLocation(node.node("npc-spawn"), npcSpawn.get());
+                }
+                final Optional<StoredLocation> banSign = arena.getBanSign();
+                if (banSign.isPresent()) {
+                    writeLocation(node.node("ban-sign"), banSign.get());
+                }
+            }
+            for (final VoteZone zone : zoneRegistry.zones()) {
+                final String name = dispatcher.get(zone.getName()).map(Arena::getName).orElse(zone.getName());
+                writeZone(arenas.node(name, "zone"), zone);
+            }
+            for (final StoredLocation sign : banBoard.getSigns()) {
+                writeLocation(root.node("ban-board", "signs").appendListNode(), sign);
+            }
+        } catch (final SerializationException ex) {
+            this.logger.error("Failed to serialise the Botany Bay arena layout: {}", ex.getMessage(), ex);
+            return;
+        }
+
+        this.writer.execute(() -> {
+            try {
+                this.loader.save(root);
+            } catch (final ConfigurateException ex) {
+                this.logger.error("Failed to save the Botany Bay arena layout: {}", ex.getMessage(), ex);
+            }
+        });
+    }
+
+    /**
+     * Waits for pending writes to finish.
+     */
+    void close() {
+        this.writer.shutdown();
+        try {
+            if (!this.writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                this.logger.warn("Timed out waiting for the Botany Bay arena layout to save.");
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static VoteZone readZone(final String name, final CommentedConfigurationNode node) {
+        final CommentedConfigurationNode min = node.node("min");
+        final CommentedConfigurationNode max = node.node("max");
+        return new VoteZone(name, readWorldId(node),
+                min.node("x").getInt(), min.node("y").getInt(), min.node("z").getInt(),
+                max.node("x").getInt(), max.node("y").getInt(), max.node("z").getInt());
+    }
+
+    private static StoredLocation readLocation(final CommentedConfigurationNode node) {
+        return new StoredLocation(readWorldKey(node),
+                node.node("x").getDouble(), node.node("y").getDouble(), node.node("z").getDouble());
+    }
+
+    /**
+     * Reads a world key, accepting the world ids written by earlier versions.
+     */
+    private static ResourceKey readWorldKey(final CommentedConfigurationNode node) {
+        final String world = node.node("world").getString();
+        if (world == null) {
+            throw new IllegalArgumentException("missing world at " + node.path());
+        }
+        if (world.indexOf(':') < 0) {
+            final UUID worldId = UUID.fromString(world);
+            return Sponge.server().worldManager().worldKey(worldId)
+                    .orElseThrow(() -> new IllegalArgumentException("unknown world " + worldId + " at " + node.path()));
+        }
+        return ResourceKey.resolve(world);
+    }
+
+    private static UUID readWorldId(final CommentedConfigurationNode node) {
+        final String world = node.node("world").getString();
+        if (world == null) {
+            throw new IllegalArgumentException("missing world at " + node.path());
+        }
+        return UUID.fromString(world);
+    }
+
+    private static void writeZone(final CommentedConfigurationNode node, final VoteZone zone)
+            throws SerializationException {
+        node.node("world").set(zone.getWorldId().toString());
+        node.node("min", "x").set(zone.getMinX());
+        node.node("min", "y").set(zone.getMinY());
+        node.node("min", "z").set(zone.getMinZ());
+        node.node("max", "x").set(zone.getMaxX());
+        node.node("max", "y").set(zone.getMaxY());
+        node.node("max", "z").set(zone.getMaxZ());
+    }
+
+    private static void writeLocation(final CommentedConfigurationNode node, final StoredLocation location)
+            throws SerializationException {
+        node.node("world").set(location.getWorldKey().asString());
+        node.node("x").set(location.getX());
+        node.node("y").set(location.getY());
+        node.node("z").set(location.getZ());
+    }
+}
@@ -0,0 +1,104 @@
+package com.botanybay;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.math.vector.Vector3d;
+
+/**
+ * Keeps track of which players are currently standing in a Botany Bay arena.
+ *
+ * <p>The tracker is fed from movement events and only does work when a player
+ * crosses a block boundary. It stores an entry solely for players that are
+ * inside some zone, plus one counter per occupied zone, so the bookkeeping
+ * stays proportional to the crowd rather than to the whole server.</p>
+ */
+final class ArenaPresenceTracker {
+
+    private final VoteZoneRegistry zoneRegistry;
+    private final BiConsumer<ServerPlayer, VoteZone> onEnter;
+    private final BiConsumer<ServerPlayer, VoteZone> onExit;
+    private final Map<UUID, VoteZone> zoneByPlayer = new HashMap<>();
+    private final Map<String, Integer> crowdByZone = new HashMap<>();
+
+    ArenaPresenceTracker(final VoteZoneRegistry zoneRegistry, final BiConsumer<ServerPlayer, VoteZone> onEnter,
+            final BiConsumer<ServerPlayer, VoteZone> onExit) {
+        this.zoneRegistry = zoneRegistry;
+        this.onEnter = onEnter;
+        this.onExit = onExit;
+    }
+
+    /**
+     * Handles a movement, ignoring it unless the player changed block.
+     */
+    void onMove(final ServerPlayer player, final Vector3d from, final Vector3d to) {
+        if (from.floorX() == to.floorX() && from.floorY() == to.floorY() && from.floorZ() == to.floorZ()) {
+            return;
+        }
+        this.update(player, player.world().uniqueId(), to.floorX(), to.floorY(), to.floorZ());
+    }
+
+    /**
+     * Re-evaluates a player at their current location, e.g. after a join or world change.
+     */
+    void refresh(final ServerPlayer player) {
+        final Vector3d position = player.position();
+        this.update(player, player.world().uniqueId(), position.floorX(), position.floorY(), position.floorZ());
+    }
+
+    void remove(final UUID playerId) {
+        final VoteZone previous = this.zoneByPlayer.remove(playerId);
+        if (previous != null) {
+            this.decrement(previous);
+        }
+    }
+
+    VoteZone zoneOf(final UUID playerId) {
+        return this.zoneByPlayer.get(playerId);
+    }
+
+    int crowd(final String zoneName) {
+        return this.crowdByZone.getOrDefault(normalize(zoneName), 0);
+    }
+
+    int totalCrowd() {
+        return this.zoneByPlayer.size();
+    }
+
+    private void update(final ServerPlayer player, final UUID worldId, final int x, final int y, final int z) {
+        final UUID playerId = player.uniqueId();
+        final VoteZone previous = this.zoneByPlayer.get(playerId);
+        final VoteZone current = this.zoneRegistry.findZone(worldId, x, y, z);
+
+        if (previous == current) {
+            return;
+        }
+        if (previous != null && current != null && normalize(previous.getName()).equals(normalize(current.getName()))) {
+            // Same arena whose bounds were redefined; keep the player counted without re-announcing.
+            this.zoneByPlayer.put(playerId, current);
+            return;
+        }
+
+        if (previous != null) {
+            this.zoneByPlayer.remove(playerId);
+            this.decrement(previous);
+            this.onExit.accept(player, previous);
+        }
+        if (current != null) {
+            this.zoneByPlayer.put(playerId, current);
+            this.crowdByZone.merge(normalize(current.getName()), 1, Integer::sum);
+            this.onEnter.accept(player, current);
+        }
+    }
+
+    private void decrement(final VoteZone zone) {
+        this.crowdByZone.computeIfPresent(normalize(zone.getName()), (name, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static String normalize(final String zoneName) {
+        return zoneName.toLowerCase(Locale.ROOT);
+    }
+}
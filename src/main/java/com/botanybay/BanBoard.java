@@ -0,0 +1,144 @@
+package com.botanybay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import net.kyori.adventure.text.Component;
+import org.spongepowered.api.block.entity.Sign;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * Wall of signs that pages through the trial queue, one suspect per sign.
+ *
+ * <p>Each turn of the board shows the next page of the queue, wrapping back to
+ * the front after the last page. A sign is only re-rendered when the suspect
+ * or queue position it shows has changed, so turning a page of a large queue
+ * costs one queue lookup plus a write for each sign that actually changed.
+ * Writes go through the shared {@link SignWriter}.</p>
+ *
+ * <p>Must only be used from the main server thread.</p>
+ */
+final class BanBoard {
+
+    static final int MAX_SIGNS = 64;
+
+    private final TrialTimerWheel wheel;
+    private final SignWriter writer;
+    private final TrialQueue queue;
+    private final LongSupplier pageTicks;
+    private final BiFunction<Integer, QueuedSuspect, List<Component>> renderer;
+    private final List<Component> emptyLines;
+    private List<StoredLocation> signs = Collections.emptyList();
+    private UUID[] shownIds = new UUID[0];
+    private int[] shownPositions = new int[0];
+    private int page;
+    private TrialTimerWheel.Timeout turn;
+
+    /**
+     * @param pageTicks how long each page stays up, read before every turn
+     * @param renderer renders a suspect and their one-based queue position onto sign lines
+     * @param emptyLines shown on signs with no suspect on the current page
+     */
+    BanBoard(final TrialTimerWheel wheel, final SignWriter writer, final TrialQueue queue,
+            final LongSupplier pageTicks, final BiFunction<Integer, QueuedSuspect, List<Component>> renderer,
+            final List<Component> emptyLines) {
+        this.wheel = wheel;
+        this.writer = writer;
+        this.queue = queue;
+        this.pageTicks = pageTicks;
+        this.renderer = renderer;
+        this.emptyLines = emptyLines;
+    }
+
+    /**
+     * Collects the signs in the flat wall between two corners, ordered row by
+     * row from the first corner's top row, reading from the first corner
+     * towards the second.
+     */
+    static List<StoredLocation> scanWall(final ServerWorld world, final Vector3i first, final Vector3i second) {
+        final boolean alongX = first.x() != second.x();
+        final int fromColumn = alongX ? first.x() : first.z();
+        final int toColumn = alongX ? second.x() : second.z();
+        final int step = toColumn >= fromColumn ? 1 : -1;
+        final int top = Math.max(first.y(), second.y());
+        final int bottom = Math.min(first.y(), second.y());
+
+        final List<StoredLocation> found = new ArrayList<>();
+        for (int y = top; y >= bottom; y--) {
+            for (int column = fromColumn; column != toColumn + step; column += step) {
+                final ServerLocation location = alongX
+                        ? world.location(column, y, first.z())
+                        : world.location(first.x(), y, column);
+                if (location.blockEntity(Sign.class).isPresent()) {
+                    found.add(StoredLocation.of(location));
+                }
+            }
+        }
+        return found;
+    }
+
+    List<StoredLocation> getSigns() {
+        return signs;
+    }
+
+    /**
+     * Replaces the board's signs and starts paging from the front of the queue.
+     */
+    void bind(final List<StoredLocation> signs) {
+        this.signs.forEach(writer::forget);
+        this.signs = Collections.unmodifiableList(new ArrayList<>(signs));
+        this.shownIds = new UUID[signs.size()];
+        this.shownPositions = new int[signs.size()];
+        this.page = 0;
+        this.start();
+    }
+
+    /**
+     * Shows the first page now and keeps turning pages while the board has signs.
+     */
+    void start() {
+        this.stop();
+        if (!signs.isEmpty()) {
+            this.turnPage();
+        }
+    }
+
+    void stop() {
+        if (turn != null) {
+            turn.cancel();
+            turn = null;
+        }
+    }
+
+    private void turnPage() {
+        final int perPage = signs.size();
+        final int pages = Math.max(1, (queue.size() + perPage - 1) / perPage);
+        if (page >= pages) {
+            page = 0;
+        }
+        this.render(page * perPage, queue.page(page * perPage, perPage));
+        page++;
+        turn = wheel.schedule(pageTicks.getAsLong(), this::turnPage);
+    }
+
+    private void render(final int offset, final List<QueuedSuspect> entries) {
+        for (int i = 0; i < signs.size(); i++) {
+            final StoredLocation sign = signs.get(i);
+            final QueuedSuspect entry = i < entries.size() ? entries.get(i) : null;
+            final UUID id = entry == null ? null : entry.getSuspectId();
+            final int position = entry == null ? 0 : offset + i + 1;
+            if (writer.hasWritten(sign) && position == shownPositions[i] && Objects.equals(id, shownIds[i])) {
+                continue;
+            }
+            writer.write(sign, entry == null ? emptyLines : renderer.apply(position, entry));
+            shownIds[i] = id;
+            shownPositions[i] = position;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.botanybay;
+
+import java.util.concurrent.TimeUnit;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+
+/**
+ * Tunable settings loaded from {@code config/botanybay/botanybay.conf}.
+ *
+ * <p>Instances are treated as immutable once loaded. A reload builds a fresh
+ * instance and swaps it in whole, so code that reads the configuration once
+ * per operation always sees a consistent set of values. Getters clamp values
+ * into a usable range rather than rejecting the file.</p>
+ */
+@ConfigSerializable
+final class BotanyBayConfig {
+
+    @Comment("Trial length, reminders and display.")
+    private Trial trial = new Trial();
+
+    @Comment("Automatic queue draining; toggle at runtime with /botanybay autodrain.")
+    private AutoDrain autoDrain = new AutoDrain();
+
+    @Comment("Trial queue and ban handling.")
+    private Queue queue = new Queue();
+
+    @Comment("Ban sign rendering.")
+    private Sign sign = new Sign();
+
+    @Comment("Condemned suspect NPCs.")
+    private Npc npc = new Npc();
+
+    Trial getTrial() {
+        return trial;
+    }
+
+    AutoDrain getAutoDrain() {
+        return autoDrain;
+    }
+
+    Queue getQueue() {
+        return queue;
+    }
+
+    Sign getSign() {
+        return sign;
+    }
+
+    Npc getNpc() {
+        return npc;
+    }
+
+    @ConfigSerializable
+    static final class Trial {
+
+        @Comment("How long the crowd has to vote, in seconds. Changes apply to trials started after a reload.")
+        private int durationSeconds = 120;
+
+        @Comment("Charge used when staff do not give a reason.")
+        private String defaultAccusation = "Botting-related offences";
+
+        @Comment("Seconds added by /botanybay extend when no amount is given.")
+        private int defaultExtensionSeconds = 30;
+
+        @Comment("Ticks between boss bar and sidebar refreshes (20 ticks = 1 second).")
+        private int hudRefreshTicks = 10;
+
+        long getDurationTicks() {
+            return (long) Math.max(1, durationSeconds) * TrialTimerWheel.TICKS_PER_SECOND;
+        }
+
+        String getDefaultAccusation() {
+            return defaultAccusation == null || defaultAccusation.trim().isEmpty()
+                    ? "Botting-related offences" : defaultAccusation.trim();
+        }
+
+        int getDefaultExtensionSeconds() {
+            return Math.max(1, Math.min(600, defaultExtensionSeconds));
+        }
+
+        long getHudRefreshTicks() {
+            return Math.max(1, hudRefreshTicks);
+        }
+    }
+
+    @ConfigSerializable
+    static final class AutoDrain {
+
+        @Comment("Whether auto-drain is switched on when the server starts.")
+        private boolean enabled = false;
+
+        @Comment("Seconds an arena rests after a trial before the next one starts.")
+        private int cooldownSeconds = 15;
+
+        @Comment("Seconds between checks while an arena waits for suspects or spectators.")
+        private int recheckSeconds = 5;
+
+        @Comment("Spectators that must stand in an arena before its next trial starts.")
+        private int minimumCrowd = 3;
+
+        boolean isEnabled() {
+            return enabled;
+        }
+
+        long getCooldownTicks() {
+            return (long) Math.max(0, cooldownSeconds) * TrialTimerWheel.TICKS_PER_SECOND;
+        }
+
+        long getRecheckTicks() {
+            return (long) Math.max(1, recheckSeconds) * TrialTimerWheel.TICKS_PER_SECOND;
+        }
+
+        int getMinimumCrowd() {
+            return Math.max(0, minimumCrowd);
+        }
+    }
+
+    @ConfigSerializable
+    static final class Queue {
+
+        @Comment("Suspects shown per page of /botanybay list.")
+        private int pageSize = 10;
+
+        @Comment("Profile lookups, and then bans, submitted per tick by /botanybay bulkban.")
+        private int bulkBanBatchSize = 20;
+
+        int getPageSize() {
+            return Math.max(1, pageSize);
+        }
+
+        int getBulkBanBatchSize() {
+            return Math.max(1, bulkBanBatchSize);
+        }
+    }
+
+    @ConfigSerializable
+    static final class Sign {
+
+        @Comment("Widest a ban sign line may be, in pixels of the default font. A sign fits 90.")
+        private int lineWidth = SignTextLayout.SIGN_LINE_WIDTH;
+
+        @Comment("Seconds each page of the ban board stays up before it turns.")
+        private int boardPageSeconds = 8;
+
+        int getLineWidth() {
+            return Math.max(12, Math.min(SignTextLayout.SIGN_LINE_WIDTH, lineWidth));
+        }
+
+        long getBoardPageTicks() {
+            return (long) Math.max(1, boardPageSeconds) * TrialTimerWheel.TICKS_PER_SECOND;
+        }
+    }
+
+    @ConfigSerializable
+    static final class Npc {
+
+        @Comment("Most suspect NPCs standing at the spawn at once; the oldest is re-skinned for each new suspect.")
+        private int poolSize = 4;
+
+        @Comment("Suspect profiles whose skins are kept after being looked up.")
+        private int profileCacheSize = 256;
+
+        @Comment("Minutes a looked-up skin is reused before it is fetched again.")
+        private int profileCacheMinutes = 30;
+
+        int getPoolSize() {
+            return Math.max(1, Math.min(64, poolSize));
+        }
+
+        int getProfileCacheSize() {
+            return Math.max(1, profileCacheSize);
+        }
+
+        long getProfileCacheTtlNanos() {
+            return TimeUnit.MINUTES.toNanos(Math.max(1, profileCacheMinutes));
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.botanybay;
 
 import com.google.inject.Inject;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 
@@ -24,44 +28,58 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.JoinConfiguration;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.slf4j.Logger;
 import org.spongepowered.api.Server;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.entity.Sign;
+import org.spongepowered.api.block.transaction.BlockTransaction;
 import org.spongepowered.api.command.Command;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.command.exception.CommandException;
 import org.spongepowered.api.command.parameter.CommandContext;
 import org.spongepowered.api.command.parameter.Parameter;
-import org.spongepowered.api.data.Keys;
-import org.spongepowered.api.entity.Entity;
-import org.spongepowered.api.entity.EntityTypes;
+import org.spongepowered.api.command.parameter.managed.Flag;
+import org.spongepowered.api.config.ConfigDir;
+import org.spongepowered.api.config.DefaultConfig;
 import org.spongepowered.api.entity.living.Humanoid;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
 import org.spongepowered.api.event.block.InteractBlockEvent;
+import org.spongepowered.api.event.entity.ChangeEntityWorldEvent;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+import org.spongepowered.api.event.filter.Getter;
 import org.spongepowered.api.event.filter.cause.Root;
 import org.spongepowered.api.event.lifecycle.RegisterCommandEvent;
 import org.spongepowered.api.event.lifecycle.StartedEngineEvent;
+import org.spongepowered.api.event.lifecycle.StoppingEngineEvent;
 import org.spongepowered.api.event.network.ServerSideConnectionEvent;
+import org.spongepowered.api.event.world.chunk.ChunkEvent;
 import org.spongepowered.api.plugin.Plugin;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.profile.GameProfile;
-import org.spongepowered.api.scheduler.ScheduledTask;
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.service.ban.Ban;
+import org.spongepowered.api.service.ban.BanService;
 import org.spongepowered.api.service.ban.BanTypes;
 import org.spongepowered.api.util.ban.Ban;
 import org.spongepowered.api.util.ban.BanTypes;
 import org.spongepowered.api.world.server.ServerLocation;
-import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -118,39 +136,196 @@ import org.spongepowered.api.world.World;
 
 public final class BotanyBayPlugin {
 
-    private static final Duration TRIAL_DURATION = Duration.ofMinutes(2);
-    private static final String DEFAULT_ACCUSATION = "Botting-related offences";
-    private static final int SIGN_LINE_LENGTH = 15;
+    private static final String DEFAULT_ZONE_NAME = "default";
+    private static final int TIMER_WHEEL_SIZE = 512;
+    private static final int SIGN_LAYOUT_CACHE_SIZE = 256;
+    private static final DateTimeFormatter HISTORY_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm",
+            Locale.ROOT).withZone(ZoneId.systemDefault());
+    private static final List<Component> EMPTY_BOARD_LINES = List.of(
+            Component.text("Botany Bay", NamedTextColor.DARK_GREEN),
+            Component.text(""),
+            Component.text("No suspect", NamedTextColor.GRAY),
+            Component.text(""));
 
     private final Logger logger;
     private final PluginContainer pluginContainer;
-
-    private final Deque<QueuedSuspect> trialQueue = new ArrayDeque<>();
-    private final Set<UUID> queuedSuspects = new HashSet<>();
+    private final Path configDir;
+    private final ConfigurationLoader<CommentedConfigurationNode> configLoader;
+    private final AtomicReference<BotanyBayConfig> config = new AtomicReference<>(new BotanyBayConfig());
+    private final TrialQueueJournal queueJournal;
+    private final ArenaLayoutStore arenaLayout;
+    private final TrialHistory trialHistory;
+    private final VoteAuditLog voteAudit;
+    private final BroadcastBatcher broadcasts;
+    private final TrialTimerWheel timerWheel;
+    private final TrialComponentCache components = new TrialComponentCache();
+
+    private final TrialQueue trialQueue = new TrialQueue();
     private final Map<UUID, ZoneSelection> pendingZoneSelections = new HashMap<>();
-    private final Set<UUID> pendingBanSignSelections = new HashSet<>();
-    private Optional<ServerLocation> npcSpawnLocation = Optional.empty();
-    private Optional<ServerLocation> banSignLocation = Optional.empty();
-    private Optional<VoteZone> voteZone = Optional.empty();
-    private TrialSession activeTrial;
-    private ScheduledTask conclusionTask;
-    private UUID npcEntityId;
+    private final Map<UUID, String> pendingBanSignSelections = new HashMap<>();
+    private final Set<UUID> pendingBanBoardSelections = new HashSet<>();
+    private final Map<UUID, ServerLocation> pendingBanBoardCorners = new HashMap<>();
+    private final Set<UUID> pendingBans = new HashSet<>();
+    private final VoteZoneRegistry zoneRegistry = new VoteZoneRegistry();
+    private final ArenaPresenceTracker arenaPresence = new ArenaPresenceTracker(this.zoneRegistry,
+            this::announceArenaEntry, this::announceArenaExit);
+    private final TrialDispatcher dispatcher;
+    private final QueueAutoDrain autoDrain;
+    private final NpcPool npcPool;
+    private final ProfileSkinResolver skinResolver;
+    private final SignWriter signWriter;
+    private final SignTextLayout accusationLayout;
+    private final SignTextLayout signLineLayout;
+    private final BanBoard banBoard;
 
     private final Parameter.Value<User> suspectParameter = Parameter.user().key("suspect").build();
     private final Parameter.Value<String> reasonParameter = Parameter.remainingJoinedStrings().key("reason").build();
     private final Parameter.Value<String> punishmentParameter = Parameter.string().key("punishment").build();
+    private final Parameter.Value<String> zoneParameter = Parameter.string().key("zone").build();
+    private final Parameter.Value<String> targetsParameter = Parameter.remainingJoinedStrings().key("targets").build();
+    private final Parameter.Value<Integer> secondsParameter = Parameter.rangedInteger(1, 600)
+            .key("seconds").build();
+    private final Parameter.Value<Boolean> enabledParameter = Parameter.bool().key("enabled").build();
+    private final Parameter.Value<Integer> pageParameter = Parameter.rangedInteger(1, Integer.MAX_VALUE)
+            .key("page").build();
+    private final Parameter.Value<Integer> daysParameter = Parameter.rangedInteger(1, 3650).key("days").build();
 
     @Inject
-    public BotanyBayPlugin(final Logger logger, final PluginContainer pluginContainer) {
+    public BotanyBayPlugin(final Logger logger, final PluginContainer pluginContainer,
+            @ConfigDir(sharedRoot = false) final Path configDir,
+            @DefaultConfig(sharedRoot = false) final ConfigurationLoader<CommentedConfigurationNode> configLoader) {
         this.logger = logger;
         this.pluginContainer = pluginContainer;
+        this.configDir = configDir;
+        this.configLoader = configLoader;
+        this.queueJournal = new TrialQueueJournal(configDir, logger);
+        this.arenaLayout = new ArenaLayoutStore(configDir, logger);
+        this.trialHistory = new TrialHistory(configDir, logger);
+        this.voteAudit = new VoteAuditLog(configDir, logger);
+        this.broadcasts = new BroadcastBatcher(pluginContainer);
+        this.timerWheel = new TrialTimerWheel(pluginContainer, TIMER_WHEEL_SIZE);
+        this.dispatcher = new TrialDispatcher(DEFAULT_ZONE_NAME, this.zoneRegistry, this.trialQueue,
+                this.queueJournal, this::beginTrial);
+        this.autoDrain = new QueueAutoDrain(this.timerWheel, this.dispatcher, this::arenaCrowd,
+                this::announceWaitingForCrowd, () -> this.config.get().getAutoDrain());
+        this.npcPool = new NpcPool(logger, () -> this.config.get().getNpc().getPoolSize());
+        this.skinResolver = new ProfileSkinResolver(ProfileProvider.sponge(), () -> this.config.get().getNpc());
+        this.signWriter = new SignWriter(this.timerWheel, logger);
+        this.accusationLayout = new SignTextLayout(2, () -> this.config.get().getSign().getLineWidth(),
+                SIGN_LAYOUT_CACHE_SIZE);
+        this.signLineLayout = new SignTextLayout(1, () -> this.config.get().getSign().getLineWidth(),
+                SIGN_LAYOUT_CACHE_SIZE);
+        this.banBoard = new BanBoard(this.timerWheel, this.signWriter, this.trialQueue,
+                () -> this.config.get().getSign().getBoardPageTicks(), this::renderBoardEntry, EMPTY_BOARD_LINES);
     }
 
     @Listener
     public void onServerStarted(final StartedEngineEvent<Server> event) {
+        this.loadInitialConfig();
+        this.restoreArenaLayout();
+        this.restoreTrialQueue();
+        this.restoreTrialHistory();
+        this.openVoteAudit();
+        this.timerWheel.start();
+        if (this.config.get().getAutoDrain().isEnabled()) {
+            this.autoDrain.enable();
+        }
         this.logger.info("Botany Bay plugin ready. Use /botanybay start <player> to begin a trial.");
     }
 
+    @Listener
+    public void onServerStopping(final StoppingEngineEvent<Server> event) {
+        this.timerWheel.stop();
+        this.npcPool.clear();
+        this.dispatcher.arenas().forEach(Arena::removeAccusedNpc);
+        this.broadcasts.flush();
+        this.queueJournal.close();
+        this.arenaLayout.close();
+        this.trialHistory.close();
+        this.voteAudit.close();
+    }
+
+    private void loadInitialConfig() {
+        try {
+            this.config.set(this.readConfig());
+        } catch (final ConfigurateException ex) {
+            this.logger.error("Failed to load the Botany Bay config; using defaults: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Reads the config file, writing back any settings missing from it with their defaults.
+     */
+    private BotanyBayConfig readConfig() throws ConfigurateException {
+        final CommentedConfigurationNode root = this.configLoader.load();
+        final BotanyBayConfig loaded = root.get(BotanyBayConfig.class, BotanyBayConfig::new);
+        root.set(BotanyBayConfig.class, loaded);
+        this.configLoader.save(root);
+        return loaded;
+    }
+
+    private void restoreArenaLayout() {
+        final int restored;
+        try {
+            restored = this.arenaLayout.load(this.zoneRegistry, this.dispatcher, this.banBoard);
+        } catch (final ConfigurateException ex) {
+            this.logger.error("Failed to restore the Botany Bay arena layout; layout changes will not be saved: {}",
+                    ex.getMessage(), ex);
+            return;
+        }
+
+        if (restored > 0) {
+            this.logger.info("Restored the layout of {} Botany Bay arena(s).", restored);
+        }
+        this.dispatcher.usableArenas().forEach(this.autoDrain::arenaAdded);
+    }
+
+    private void saveArenaLayout() {
+        this.arenaLayout.save(this.zoneRegistry, this.dispatcher, this.banBoard);
+    }
+
+    private void restoreTrialQueue() {
+        final List<QueuedSuspect> restored;
+        try {
+            restored = this.queueJournal.load();
+        } catch (final IOException ex) {
+            this.logger.error("Failed to restore the Botany Bay trial queue; queued suspects will not be saved: {}",
+                    ex.getMessage(), ex);
+            return;
+        }
+
+        for (final QueuedSuspect suspect : restored) {
+            this.trialQueue.add(suspect);
+        }
+        if (!restored.isEmpty()) {
+            this.logger.info("Restored {} suspect(s) awaiting a Botany Bay trial.", restored.size());
+        }
+    }
+
+    private void restoreTrialHistory() {
+        final int trials;
+        try {
+            trials = this.trialHistory.load();
+        } catch (final IOException ex) {
+            this.logger.error("Failed to load the Botany Bay trial history; finished trials will not be recorded: {}",
+                    ex.getMessage(), ex);
+            return;
+        }
+
+        if (trials > 0) {
+            this.logger.info("Loaded the history of {} Botany Bay trial(s).", trials);
+        }
+    }
+
+    private void openVoteAudit() {
+        try {
+            this.voteAudit.open();
+        } catch (final IOException ex) {
+            this.logger.error("Failed to open the Botany Bay vote audit log; votes will not be audited: {}",
+                    ex.getMessage(), ex);
+        }
+    }
+
     @Listener
     public void onRegisterCommands(final RegisterCommandEvent<Command.Parameterized> event) {
         event.register(this.pluginContainer, this.createRootCommand(), "botanybay", "bbay");
@@ -158,23 +333,81 @@ public final class BotanyBayPlugin {
 
     @Listener
     public void onAccusedDisconnect(final ServerSideConnectionEvent.Disconnect event) {
-        if (this.activeTrial != null && this.activeTrial.getSuspectId().equals(event.player().uniqueId())) {
-            Sponge.server().broadcastAudience().sendMessage(Component.text()
+        final UUID playerId = event.player().uniqueId();
+        this.dispatcher.arenaOf(playerId).ifPresent(arena -> {
+            this.broadcasts.queue(Component.text()
                     .color(NamedTextColor.GRAY)
                     .append(Component.text("The accused has fled Botany Bay! The trial ends without a verdict.")
                             .color(NamedTextColor.GRAY))
                     .build());
-            this.cancelScheduledConclusion();
-            this.activeTrial = null;
-        }
-        final UUID playerId = event.player().uniqueId();
+            this.endTrial(arena);
+        });
         this.pendingZoneSelections.remove(playerId);
         this.pendingBanSignSelections.remove(playerId);
+        this.pendingBanBoardSelections.remove(playerId);
+        this.pendingBanBoardCorners.remove(playerId);
+        this.arenaPresence.remove(playerId);
+    }
+
+    @Listener
+    public void onPlayerJoin(final ServerSideConnectionEvent.Join event) {
+        this.arenaPresence.refresh(event.player());
+        for (final Arena arena : this.dispatcher.running()) {
+            if (!this.zoneRegistry.get(arena.getName()).isPresent()) {
+                arena.getHud().ifPresent(hud -> hud.addViewer(event.player()));
+            }
+        }
+    }
+
+    @Listener
+    public void onPlayerMove(final MoveEntityEvent event, @Getter("entity") final ServerPlayer player) {
+        this.arenaPresence.onMove(player, event.originalPosition(), event.destinationPosition());
+    }
+
+    @Listener
+    public void onPlayerChangeWorld(final ChangeEntityWorldEvent.Post event, @Getter("entity") final ServerPlayer player) {
+        this.arenaPresence.refresh(player);
+    }
+
+    @Listener
+    public void onChunkUnload(final ChunkEvent.Unload.Pre event) {
+        // Remove NPCs before their chunk is saved, so they do not linger as stray humans after a reload.
+        this.npcPool.chunkUnloading(event.worldKey(), event.chunkPosition());
+        for (final Arena arena : this.dispatcher.arenas()) {
+            if (arena.getAccusedNpc().filter(npc -> npc.isIn(event.worldKey(), event.chunkPosition())).isPresent()) {
+                arena.removeAccusedNpc();
+            }
+        }
+        this.signWriter.chunkUnloading(event.worldKey(), event.chunkPosition());
+    }
+
+    @Listener(order = Order.POST)
+    public void onBlockChange(final ChangeBlockEvent.All event) {
+        for (final BlockTransaction transaction : event.transactions()) {
+            this.signWriter.blockChanged(transaction.original().world(), transaction.original().position());
+        }
+    }
+
+    private void announceArenaEntry(final ServerPlayer player, final VoteZone zone) {
+        player.sendActionBar(Component.text()
+                .append(Component.text("You entered the Botany Bay arena ", NamedTextColor.GREEN))
+                .append(Component.text(zone.getName(), NamedTextColor.YELLOW))
+                .build());
+        this.dispatcher.get(zone.getName()).flatMap(Arena::getHud).ifPresent(hud -> hud.addViewer(player));
+    }
+
+    private void announceArenaExit(final ServerPlayer player, final VoteZone zone) {
+        player.sendActionBar(Component.text()
+                .append(Component.text("You left the Botany Bay arena ", NamedTextColor.GRAY))
+                .append(Component.text(zone.getName(), NamedTextColor.YELLOW))
+                .build());
+        this.dispatcher.get(zone.getName()).flatMap(Arena::getHud).ifPresent(hud -> hud.removeViewer(player));
     }
 
     private Command.Parameterized createRootCommand() {
         final Command.Parameterized startCommand = Command.builder()
                 .permission("botanybay.command.start")
+                .addFlag(Flag.builder().aliases("zone", "z").setParameter(this.zoneParameter).build())
                 .addParameter(Parameter.optional(this.suspectParameter))
                 .addParameter(Parameter.optional(this.reasonParameter))
                 .executor(this::executeStart)
@@ -187,6 +420,12 @@ public final class BotanyBayPlugin {
                 .executor(this::executeBan)
                 .build();
 
+        final Command.Parameterized bulkBanCommand = Command.builder()
+                .permission("botanybay.command.bulkban")
+                .addParameter(this.targetsParameter)
+                .executor(this::executeBulkBan)
+                .build();
+
         final Command.Parameterized voteCommand = Command.builder()
                 .permission("botanybay.command.vote")
                 .addParameter(this.punishmentParameter)
@@ -195,38 +434,81 @@ public final class BotanyBayPlugin {
 
         final Command.Parameterized statusCommand = Command.builder()
                 .permission("botanybay.command.status")
+                .addFlag(Flag.builder().aliases("zone", "z").setParameter(this.zoneParameter).build())
                 .executor(this::executeStatus)
                 .build();
 
         final Command.Parameterized cancelCommand = Command.builder()
                 .permission("botanybay.command.cancel")
+                .addFlag(Flag.builder().aliases("zone", "z").setParameter(this.zoneParameter).build())
                 .executor(this::executeCancel)
                 .build();
 
+        final Command.Parameterized extendCommand = Command.builder()
+                .permission("botanybay.command.extend")
+                .addFlag(Flag.builder().aliases("zone", "z").setParameter(this.zoneParameter).build())
+                .addParameter(Parameter.optional(this.secondsParameter))
+                .executor(this::executeExtend)
+                .build();
+
+        final Command.Parameterized autoDrainCommand = Command.builder()
+                .permission("botanybay.command.autodrain")
+                .addParameter(Parameter.optional(this.enabledParameter))
+                .executor(this::executeAutoDrain)
+                .build();
+
+        final Command.Parameterized reloadCommand = Command.builder()
+                .permission("botanybay.command.reload")
+                .executor(this::executeReload)
+                .build();
+
+        final Command.Parameterized listCommand = Command.builder()
+                .permission("botanybay.command.list")
+                .addParameter(Parameter.optional(this.pageParameter))
+                .executor(this::executeList)
+                .build();
+
+        final Command.Parameterized historyCommand = Command.builder()
+                .permission("botanybay.command.history")
+                .addFlag(Flag.builder().aliases("verdict", "v").setParameter(this.punishmentParameter).build())
+                .addFlag(Flag.builder().aliases("days", "d").setParameter(this.daysParameter).build())
+                .addParameter(Parameter.optional(this.suspectParameter))
+                .executor(this::executeHistory)
+                .build();
+
         final Command.Parameterized setNpcCommand = Command.builder()
                 .permission("botanybay.command.setnpc")
+                .addParameter(Parameter.optional(this.zoneParameter))
                 .executor(this::executeSetNpc)
                 .build();
 
         final Command.Parameterized setZoneCommand = Command.builder()
                 .permission("botanybay.command.setzone")
+                .addParameter(Parameter.optional(this.zoneParameter))
                 .executor(this::executeSetZone)
                 .build();
 
         final Command.Parameterized setBanSignCommand = Command.builder()
                 .permission("botanybay.command.setbansign")
+                .addParameter(Parameter.optional(this.zoneParameter))
                 .executor(this::executeSetBanSign)
                 .build();
 
+        final Command.Parameterized setBanBoardCommand = Command.builder()
+                .permission("botanybay.command.setbanboard")
+                .executor(this::executeSetBanBoard)
+                .build();
+
         final Command.Parameterized setCommand = Command.builder()
                 .permission("botanybay.command.set")
                 .child(setNpcCommand, "npc")
                 .child(setZoneCommand, "zone")
                 .child(setBanSignCommand, "bansign", "sign")
+                .child(setBanBoardCommand, "banboard", "board")
                 .executor(context -> {
                     context.cause().sendMessage(Component.text()
                             .color(NamedTextColor.YELLOW)
-                            .append(Component.text("Usage: /botanybay set <npc|zone|bansign>"))
+                            .append(Component.text("Usage: /botanybay set <npc|zone|bansign|banboard>"))
                             .build());
                 
     private TrialSession activeTrial;
@@ -340,17 +622,23 @@ public final class BotanyBayPlugin {
                 .description(Text.of("Manage Botany Bay trials."))
                 .child(startCommand, "start", "accuse")
                 .child(banCommand, "ban", "queue")
+                .child(bulkBanCommand, "bulkban", "banall")
                 .child(voteCommand, "vote", "cast")
                 .child(statusCommand, "status", "info")
                 .child(cancelCommand, "cancel", "end")
+                .child(extendCommand, "extend")
+                .child(autoDrainCommand, "autodrain", "drain")
+                .child(reloadCommand, "reload")
+                .child(listCommand, "list", "waiting")
+                .child(historyCommand, "history", "trials")
                 .child(setCommand, "set")
                 .child(setZoneCommand, "setzone")
                 .child(setBanSignCommand, "setbansign")
                 .executor(context -> {
                     context.cause().sendMessage(Component.text()
                             .color(NamedTextColor.YELLOW)
-                            .append(Component.text(
-                                    "Usage: /botanybay <start|ban|vote|status|cancel|set|setzone|setbansign>"))
+                            .append(Component.text("Usage: /botanybay <start|ban|bulkban|vote|status|cancel|"
+                                    + "extend|autodrain|reload|list|history|set|setzone|setbansign>"))
                             .build());
                 .executor((src, args) -> {
                     src.sendMessage(Text.of(TextColors.YELLOW,
@@ -362,168 +650,412 @@ public final class BotanyBayPlugin {
     }
 
     private CommandResult executeStart(final CommandContext context) throws CommandException {
-        if (this.activeTrial != null) {
-            context.cause().sendMessage(Component.text("A Botany Bay trial is already in progress.")
-                    .color(NamedTextColor.RED));
-            return CommandResult.empty();
-        }
-
         final Optional<User> suspectArgument = context.one(this.suspectParameter);
         final Optional<String> providedReason = context.one(this.reasonParameter);
+        final Optional<String> zoneName = context.one(this.zoneParameter);
+
+        Optional<Arena> arena = Optional.empty();
+        if (zoneName.isPresent()) {
+            if (!this.zoneRegistry.get(zoneName.get()).isPresent()) {
+                context.cause().sendMessage(Component.text(
+                        "There is no Botany Bay zone named '" + zoneName.get() + "'.", NamedTextColor.RED));
+                return CommandResult.empty();
+            }
+            arena = Optional.of(this.dispatcher.arena(zoneName.get()));
+            if (!arena.get().isIdle()) {
+                context.cause().sendMessage(Component.text("A Botany Bay trial is already in progress in arena '"
+                        + arena.get().getName() + "'.", NamedTextColor.RED));
+                return CommandResult.empty();
+            }
+        }
 
-        final QueuedSuspect trialTarget;
+        final int started;
         if (suspectArgument.isPresent()) {
             final User suspectUser = suspectArgument.get();
-            final String accusation = providedReason.orElse(DEFAULT_ACCUSATION);
-            trialTarget = new QueuedSuspect(suspectUser.uniqueId(), suspectUser.name(), accusation, Instant.now());
-            this.removeFromQueue(trialTarget.getSuspectId());
+            if (this.dispatcher.isOnTrial(suspectUser.uniqueId())) {
+                context.cause().sendMessage(Component.text("That suspect is already on trial.", NamedTextColor.RED));
+                return CommandResult.empty();
+            }
+            if (!arena.isPresent()) {
+                arena = this.dispatcher.idleArena();
+            }
+            if (!arena.isPresent()) {
+                context.cause().sendMessage(Component.text("Every Botany Bay arena is already hosting a trial.",
+                        NamedTextColor.RED));
+                return CommandResult.empty();
+            }
+
+            final String accusation = providedReason.orElse(this.config.get().getTrial().getDefaultAccusation());
+            this.removeFromQueue(suspectUser.uniqueId());
+            this.beginTrial(arena.get(),
+                    new QueuedSuspect(suspectUser.uniqueId(), suspectUser.name(), accusation, Instant.now()));
+            started = 1;
         } else {
-            final QueuedSuspect next = this.trialQueue.pollFirst();
-            if (next == null) {
+            if (this.trialQueue.isEmpty()) {
                 context.cause().sendMessage(Component.text(
                         "No suspects are waiting for trial. Provide a suspect or use /botanybay ban first.")
                         .color(NamedTextColor.RED));
                 return CommandResult.empty();
             }
-            this.queuedSuspects.remove(next.getSuspectId());
-            trialTarget = next;
+            started = arena.isPresent()
+                    ? (this.dispatcher.dispatch(arena.get()) ? 1 : 0)
+                    : this.dispatcher.dispatchAll();
+            if (started == 0) {
+                context.cause().sendMessage(Component.text("Every Botany Bay arena is already hosting a trial.",
+                        NamedTextColor.RED));
+                return CommandResult.empty();
+            }
         }
 
-        this.activeTrial = new TrialSession(trialTarget.getSuspectId(), trialTarget.getSuspectName(),
-                trialTarget.getAccusation());
-        this.updateBanSign(trialTarget.getSuspectName(), trialTarget.getAccusation());
-        this.scheduleConclusion();
+        final Object root = context.cause().root();
+        if (root instanceof ServerPlayer) {
+            this.logger.info("{} started {} Botany Bay trial(s).", ((ServerPlayer) root).name(), started);
+        }
+        return CommandResult.success();
+    }
 
-        Sponge.server().broadcastAudience().sendMessage(Component.text()
+    /**
+     * Opens a trial for the suspect in an idle arena and announces it.
+     */
+    private void beginTrial(final Arena arena, final QueuedSuspect trialTarget) {
+        final BotanyBayConfig.Trial settings = this.config.get().getTrial();
+        final TrialSession session = new TrialSession(trialTarget.getSuspectId(), trialTarget.getSuspectName(),
+                trialTarget.getAccusation(), arena.getName(), this.timerWheel.currentTick(),
+                settings.getDurationTicks());
+        final TrialCountdown countdown = new TrialCountdown(this.timerWheel, session,
+                seconds -> this.announceRemainingTime(session, seconds), () -> this.concludeTrial(arena));
+        final TrialHud hud = new TrialHud(this.timerWheel, session, settings.getHudRefreshTicks());
+        arena.begin(session, countdown, hud);
+        // Let the next wait for spectators in this arena be announced even if the shortfall is the same.
+        this.broadcasts.forget(this.drainKey(arena));
+        hud.show(this.hudViewers(arena));
+        this.updateBanSign(arena, trialTarget.getSuspectName(), trialTarget.getAccusation());
+
+        final boolean zoned = this.zoneRegistry.get(arena.getName()).isPresent();
+        this.broadcasts.queue(Component.text()
                 .append(Component.text("Botany Bay trial has begun!", NamedTextColor.GOLD))
                 .append(Component.text(" Accused: ", NamedTextColor.GOLD))
                 .append(Component.text(trialTarget.getSuspectName(), NamedTextColor.RED))
+                .append(zoned ? Component.text(" Arena: ", NamedTextColor.GOLD) : Component.empty())
+                .append(zoned ? Component.text(arena.getName(), NamedTextColor.YELLOW) : Component.empty())
                 .build());
 
-        Sponge.server().broadcastAudience().sendMessage(Component.text()
+        this.broadcasts.queue(Component.text()
                 .append(Component.text("Charge: ", NamedTextColor.YELLOW))
                 .append(Component.text(trialTarget.getAccusation(), NamedTextColor.WHITE))
                 .build());
 
-        Sponge.server().broadcastAudience().sendMessage(Component.text(
+        this.broadcasts.queue(Component.text(
                 "Vote on the punishment by clicking a choice below or using /botanybay vote <option>:",
                 NamedTextColor.AQUA));
-        Sponge.server().broadcastAudience().sendMessage(this.formatVoteOptions());
+        this.broadcasts.queue(this.components.voteOptions());
 
-        final Object root = context.cause().root();
-        if (root instanceof ServerPlayer) {
-            this.logger.info("Botany Bay trial started by {} against {} for '{}'",
-                    ((ServerPlayer) root).name(), trialTarget.getSuspectName(), trialTarget.getAccusation());
-        } else {
-            this.logger.info("Botany Bay trial started against {} for '{}'", trialTarget.getSuspectName(),
-                    trialTarget.getAccusation());
+        this.logger.info("Botany Bay trial started in arena {} against {} for '{}'", arena.getName(),
+                trialTarget.getSuspectName(), trialTarget.getAccusation());
+
+        this.npcPool.release(trialTarget.getSuspectId());
+        this.showAccusedNpc(arena, session);
+    }
+
+    /**
+     * Stands the accused at their arena's NPC spawn once their skin is known, if the trial is still running.
+     */
+    private void showAccusedNpc(final Arena arena, final TrialSession session) {
+        if (!arena.getNpcSpawn().isPresent()) {
+            return;
         }
 
-        this.despawnActiveNpc();
-        return CommandResult.success();
+        this.skinResolver.resolve(GameProfile.of(session.getSuspectId(), session.getSuspectName()))
+                .thenAcceptAsync(profile -> {
+                    if (arena.getSession().orElse(null) != session) {
+                        return;
+                    }
+                    final Optional<ServerLocation> spawn = arena.getNpcSpawn().flatMap(StoredLocation::resolve);
+                    if (!spawn.isPresent()) {
+                        return;
+                    }
+                    final Optional<Humanoid> npc = NpcPool.spawnFrozen(profile, spawn.get().world(),
+                            spawn.get().position());
+                    if (npc.isPresent()) {
+                        arena.setAccusedNpc(NpcHandle.of(npc.get()));
+                    } else {
+                        this.logger.warn("Unable to spawn Botany Bay NPC for {} in arena {}.",
+                                session.getSuspectName(), arena.getName());
+                    }
+                }, Sponge.server().scheduler().executor(this.pluginContainer));
+    }
+
+    /**
+     * Returns the players who should see an arena's HUD: everyone standing in
+     * its zone, or everyone online if the arena has no zone.
+     */
+    private List<ServerPlayer> hudViewers(final Arena arena) {
+        final boolean zoned = this.zoneRegistry.get(arena.getName()).isPresent();
+        final List<ServerPlayer> viewers = new ArrayList<>();
+        for (final ServerPlayer player : Sponge.server().onlinePlayers()) {
+            final VoteZone zone = this.arenaPresence.zoneOf(player.uniqueId());
+            if (!zoned || (zone != null && zone.getName().equalsIgnoreCase(arena.getName()))) {
+                viewers.add(player);
+            }
+        }
+        return viewers;
     }
 
     private CommandResult executeBan(final CommandContext context) throws CommandException {
         final User suspect = context.requireOne(this.suspectParameter);
         final UUID suspectId = suspect.uniqueId();
 
-        if (this.activeTrial != null && this.activeTrial.getSuspectId().equals(suspectId)) {
+        if (this.dispatcher.isOnTrial(suspectId)) {
             context.cause().sendMessage(Component.text(
                     "That suspect is already on trial and cannot be queued again.", NamedTextColor.RED));
             return CommandResult.empty();
         }
 
-        if (this.queuedSuspects.contains(suspectId)) {
+        if (this.trialQueue.contains(suspectId)) {
             context.cause().sendMessage(Component.text(
                     "That suspect is already waiting in the Botany Bay queue.", NamedTextColor.RED));
             return CommandResult.empty();
         }
 
-        final String accusationInput = context.one(this.reasonParameter).orElse(DEFAULT_ACCUSATION);
-        final String accusation = accusationInput.trim().isEmpty() ? DEFAULT_ACCUSATION : accusationInput;
-        final Component reasonComponent = Component.text(accusation);
-
-        if (Sponge.server().banManager().isBanned(suspect.profile())) {
-            context.cause().sendMessage(Component.text(
-                    "Suspect is already banned. Adding to the queue regardless.", NamedTextColor.YELLOW));
-        } else if (!this.applyProfileBan(suspect, context.cause(), reasonComponent)) {
+        if (!this.pendingBans.add(suspectId)) {
             context.cause().sendMessage(Component.text(
-                    "Unable to ban the suspect automatically. Check the server console for details.",
-                    NamedTextColor.RED));
+                    "A Botany Bay ban for that suspect is already being processed.", NamedTextColor.RED));
             return CommandResult.empty();
         }
 
-        suspect.player().ifPresent(player ->
-                player.kick(Component.text("You have been banished to Botany Bay. Await your public trial.",
-                        NamedTextColor.DARK_RED)));
+        final String defaultAccusation = this.config.get().getTrial().getDefaultAccusation();
+        final String accusationInput = context.one(this.reasonParameter).orElse(defaultAccusation);
+        final String accusation = accusationInput.trim().isEmpty() ? defaultAccusation : accusationInput;
+        final Audience issuer = context.cause().audience();
+        final Component issuerName = this.resolveExecutorName(context.cause());
+        final GameProfile profile = suspect.profile();
+        final String suspectName = suspect.name();
+
+        this.applyProfileBan(profile, issuerName, Component.text(accusation)).whenCompleteAsync((newlyBanned, error) -> {
+            this.pendingBans.remove(suspectId);
+            if (error != null) {
+                issuer.sendMessage(Component.text(
+                        "Unable to ban the suspect automatically. Check the server console for details.",
+                        NamedTextColor.RED));
+                return;
+            }
+            if (!newlyBanned) {
+                issuer.sendMessage(Component.text(
+                        "Suspect is already banned. Adding to the queue regardless.", NamedTextColor.YELLOW));
+            }
+            this.queueBannedSuspect(issuer, issuerName, profile, suspectName, accusation);
+        }, Sponge.server().scheduler().executor(this.pluginContainer));
 
-        final QueuedSuspect entry = new QueuedSuspect(suspectId, suspect.name(), accusation, Instant.now());
-        this.trialQueue.addLast(entry);
-        this.queuedSuspects.add(suspectId);
+        return CommandResult.success();
+    }
+
+    private void queueBannedSuspect(final Audience issuer, final Component issuerName, final GameProfile profile,
+            final String suspectName, final String accusation) {
+        final UUID suspectId = profile.uniqueId();
+        this.kickToBotanyBay(suspectId);
+
+        final QueuedSuspect entry = new QueuedSuspect(suspectId, suspectName, accusation, Instant.now());
+        if (!this.trialQueue.add(entry)) {
+            issuer.sendMessage(Component.text(
+                    "That suspect is already waiting in the Botany Bay queue.", NamedTextColor.RED));
+            return;
+        }
+        this.queueJournal.recordEnqueue(entry);
 
-        Sponge.server().broadcastAudience().sendMessage(Component.text()
-                .append(Component.text(suspect.name(), NamedTextColor.DARK_RED))
+        this.broadcasts.queue(Component.text()
+                .append(Component.text(suspectName, NamedTextColor.DARK_RED))
                 .append(Component.text(" has been condemned to await judgment at Botany Bay.", NamedTextColor.GRAY))
                 .build());
 
-        context.cause().sendMessage(Component.text()
+        issuer.sendMessage(Component.text()
                 .append(Component.text("Queued suspect ", NamedTextColor.GREEN))
-                .append(Component.text(suspect.name(), NamedTextColor.YELLOW))
+                .append(Component.text(suspectName, NamedTextColor.YELLOW))
                 .append(Component.text(" for a Botany Bay trial. Position in queue: ", NamedTextColor.GREEN))
-                .append(Component.text(this.trialQueue.size(), NamedTextColor.AQUA))
+                .append(Component.text(this.trialQueue.position(suspectId), NamedTextColor.AQUA))
                 .build());
 
-        final Object root = context.cause().root();
-        if (root instanceof ServerPlayer) {
-            this.logger.info("{} banned {} and added them to the Botany Bay queue for '{}'.",
-                    ((ServerPlayer) root).name(), suspect.name(), accusation);
-        } else {
-            this.logger.info("Banned {} and added them to the Botany Bay queue for '{}'.", suspect.name(), accusation);
-        }
+        this.logger.info("{} banned {} and added them to the Botany Bay queue for '{}'.",
+                PlainTextComponentSerializer.plainText().serialize(issuerName), suspectName, accusation);
 
-        if (this.npcSpawnLocation.isPresent()) {
-            this.spawnSuspectNpc(suspect);
+        final Arena holdingArena = this.dispatcher.defaultArena();
+        if (holdingArena.getNpcSpawn().isPresent()) {
+            this.spawnSuspectNpc(profile);
         } else {
-            context.cause().sendMessage(Component.text(
+            issuer.sendMessage(Component.text(
                     "No Botany Bay NPC spawn has been set. Use /botanybay set npc.", NamedTextColor.YELLOW));
         }
 
-        if (this.banSignLocation.isPresent()) {
-            if (!this.updateBanSign(suspect.name(), accusation)) {
-                context.cause().sendMessage(Component.text(
+        if (holdingArena.getBanSign().isPresent()) {
+            if (!this.updateBanSign(holdingArena, suspectName, accusation)) {
+                issuer.sendMessage(Component.text(
                         "Unable to update the Botany Bay ban sign. Ensure the configured sign still exists.",
                         NamedTextColor.YELLOW));
             }
         } else {
-            context.cause().sendMessage(Component.text(
+            issuer.sendMessage(Component.text(
                     "No Botany Bay ban sign has been set. Use /botanybay set bansign.", NamedTextColor.YELLOW));
         }
+    }
+
+    /**
+     * Bans a profile without blocking the calling thread.
+     *
+     * <p>The returned future completes with {@code true} once a new ban has been
+     * confirmed by the ban service, {@code false} if the profile was already
+     * banned, or exceptionally if the ban could not be applied. Callbacks run on
+     * whichever thread the ban service completes on; hop back to the main thread
+     * before touching game state.</p>
+     */
+    private CompletableFuture<Boolean> applyProfileBan(final GameProfile profile, final Component source,
+            final Component reason) {
+        final BanService banService = Sponge.server().serviceProvider().banService();
+        final Ban ban = Ban.builder()
+                .type(BanTypes.PROFILE)
+                .profile(profile)
+                .reason(reason)
+                .source(source)
+                .build();
+
+        return banService.find(profile)
+                .thenCompose(existing -> existing.isPresent()
+                        ? CompletableFuture.completedFuture(false)
+                        : banService.add(ban).thenApply(previous -> true))
+                .whenComplete((newlyBanned, error) -> {
+                    if (error != null) {
+                        this.logger.error("Failed to apply Botany Bay ban to {}: {}",
+                                profile.name().orElse(profile.uniqueId().toString()), error.getMessage(), error);
+                    }
+                });
+    }
+
+    private CommandResult executeBulkBan(final CommandContext context) {
+        final CommandCause cause = context.cause();
+        final String input = context.requireOne(this.targetsParameter).trim();
+        final BotanyBayConfig settings = this.config.get();
+        final String defaultAccusation = settings.getTrial().getDefaultAccusation();
+
+        final CompletableFuture<List<BulkBanJob.Entry>> targets;
+        if (input.startsWith("@")) {
+            final Path file = this.configDir.resolve(input.substring(1)).normalize();
+            if (!file.startsWith(this.configDir)) {
+                cause.sendMessage(Component.text(
+                        "Bulk ban files must live inside the Botany Bay config directory.", NamedTextColor.RED));
+                return CommandResult.empty();
+            }
+            targets = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return BulkBanJob.readTargets(file, defaultAccusation);
+                } catch (final IOException ex) {
+                    throw new CompletionException(ex);
+                }
+            }, Sponge.asyncScheduler().executor(this.pluginContainer));
+        } else {
+            final List<BulkBanJob.Entry> entries = new ArrayList<>();
+            for (final String target : input.split("[\\s,]+")) {
+                if (!target.isEmpty()) {
+                    entries.add(new BulkBanJob.Entry(target, defaultAccusation));
+                }
+            }
+            targets = CompletableFuture.completedFuture(entries);
+        }
 
+        final Audience issuer = cause.audience();
+        final Component source = this.resolveExecutorName(cause);
+        targets.whenCompleteAsync((entries, error) -> {
+            if (error != null) {
+                issuer.sendMessage(Component.text("Unable to read the bulk ban list: "
+                        + error.getCause().getMessage(), NamedTextColor.RED));
+                return;
+            }
+            if (entries.isEmpty()) {
+                issuer.sendMessage(Component.text("No suspects were listed for the bulk ban.", NamedTextColor.RED));
+                return;
+            }
+
+            issuer.sendMessage(Component.text("Resolving " + entries.size()
+                    + " suspect(s) for the Botany Bay bulk ban...", NamedTextColor.GRAY));
+            new BulkBanJob(this.pluginContainer, settings.getQueue().getBulkBanBatchSize(), entries,
+                    (profile, accusation) -> this.applyProfileBan(profile, source, Component.text(accusation)),
+                    // Claim each suspect up front so a single ban cannot run alongside the batch.
+                    suspectId -> this.trialQueue.contains(suspectId) || this.dispatcher.isOnTrial(suspectId)
+                            || !this.pendingBans.add(suspectId),
+                    results -> this.completeBulkBan(issuer, source, results))
+                    .start();
+        }, Sponge.server().scheduler().executor(this.pluginContainer));
         return CommandResult.success();
     }
 
-    private boolean applyProfileBan(final User suspect, final CommandCause issuer, final Component reason) {
-        final Ban.Builder builder = Ban.builder()
-                .type(BanTypes.PROFILE)
-                .profile(suspect.profile())
-                .reason(reason);
+    private void completeBulkBan(final Audience issuer, final Component source,
+            final List<BulkBanJob.Entry> results) {
+        BulkBanJob.Entry lastQueued = null;
+        int queued = 0;
+        int failed = 0;
 
-        final Object root = issuer.root();
-        if (root instanceof ServerPlayer) {
-            builder.source((ServerPlayer) root);
+        for (final BulkBanJob.Entry result : results) {
+            if (result.getOutcome() != BulkBanJob.Outcome.SKIPPED && result.getProfile().isPresent()) {
+                this.pendingBans.remove(result.getProfile().get().uniqueId());
+            }
         }
 
-        try {
-            final boolean added = Sponge.server().banManager().add(builder.build());
-            if (!added) {
-                this.logger.warn("Ban manager did not report {} as banned after issuing a Botany Bay ban.",
-                        suspect.name());
+        for (final BulkBanJob.Entry result : results) {
+            final BulkBanJob.Outcome outcome = result.getOutcome();
+            if (outcome == BulkBanJob.Outcome.BANNED || outcome == BulkBanJob.Outcome.ALREADY_BANNED) {
+                final GameProfile profile = result.getProfile().get();
+                final QueuedSuspect entry = new QueuedSuspect(profile.uniqueId(), result.getDisplayName(),
+                        result.getAccusation(), Instant.now());
+                if (!this.trialQueue.add(entry)) {
+                    issuer.sendMessage(Component.text(result.getDisplayName()
+                            + ": skipped, already queued.", NamedTextColor.YELLOW));
+                    continue;
+                }
+                this.queueJournal.recordEnqueue(entry);
+                this.kickToBotanyBay(profile.uniqueId());
+                lastQueued = result;
+                queued++;
+                issuer.sendMessage(Component.text()
+                        .append(Component.text(result.getDisplayName(), NamedTextColor.YELLOW))
+                        .append(Component.text(outcome == BulkBanJob.Outcome.BANNED
+                                ? ": banned and queued at position " : ": already banned, queued at position ",
+                                NamedTextColor.GREEN))
+                        .append(Component.text(this.trialQueue.position(profile.uniqueId()), NamedTextColor.AQUA))
+                        .build());
+            } else if (outcome == BulkBanJob.Outcome.SKIPPED) {
+                issuer.sendMessage(Component.text(result.getDisplayName() + ": skipped, "
+                        + result.getDetail() + ".", NamedTextColor.YELLOW));
+            } else {
+                failed++;
+                issuer.sendMessage(Component.text(result.getDisplayName() + ": "
+                        + (outcome == BulkBanJob.Outcome.UNRESOLVED ? "not found" : result.getDetail())
+                        + ".", NamedTextColor.RED));
             }
-            return added;
-        } catch (final Exception ex) {
-            this.logger.error("Failed to apply Botany Bay ban to {}: {}", suspect.name(), ex.getMessage(), ex);
-            return false;
         }
+
+        issuer.sendMessage(Component.text()
+                .append(Component.text("Bulk ban complete: ", NamedTextColor.GOLD))
+                .append(Component.text(queued + " queued, " + failed + " failed, "
+                        + (results.size() - queued - failed) + " skipped.", NamedTextColor.WHITE))
+                .build());
+
+        if (lastQueued == null) {
+            return;
+        }
+
+        this.broadcasts.queue(Component.text()
+                .append(Component.text(queued + (queued == 1 ? " suspect has" : " suspects have"),
+                        NamedTextColor.DARK_RED))
+                .append(Component.text(" been condemned to await judgment at Botany Bay.", NamedTextColor.GRAY))
+                .build());
+        this.logger.info("{} bulk banned {} suspect(s) into the Botany Bay queue.",
+                PlainTextComponentSerializer.plainText().serialize(source), queued);
+
+        this.spawnSuspectNpc(lastQueued.getProfile().get());
+        this.updateBanSign(this.dispatcher.defaultArena(), lastQueued.getDisplayName(), lastQueued.getAccusation());
+    }
+
+    private void kickToBotanyBay(final UUID suspectId) {
+        Sponge.server().player(suspectId).ifPresent(player ->
+                player.kick(Component.text("You have been banished to Botany Bay. Await your public trial.",
+                        NamedTextColor.DARK_RED)));
     }
 
     private CommandResult executeVote(final CommandContext context) throws CommandException {
@@ -536,19 +1068,21 @@ public final class BotanyBayPlugin {
 
         final ServerPlayer voter = (ServerPlayer) cause.root();
 
-        if (this.activeTrial == null) {
+        if (this.dispatcher.running().isEmpty()) {
             voter.sendMessage(Component.text("There is no active Botany Bay trial.", NamedTextColor.RED));
             return CommandResult.empty();
         }
 
-        if (voter.uniqueId().equals(this.activeTrial.getSuspectId())) {
-            voter.sendMessage(Component.text("The accused cannot vote on their own punishment.",
+        final Optional<TrialSession> trial = this.trialForVoter(voter);
+        if (!trial.isPresent()) {
+            voter.sendMessage(Component.text("You must be inside the Botany Bay arena to cast a vote.",
                     NamedTextColor.RED));
             return CommandResult.empty();
         }
+        final TrialSession session = trial.get();
 
-        if (this.voteZone.isPresent() && !this.voteZone.get().contains(voter.location())) {
-            voter.sendMessage(Component.text("You must be inside the Botany Bay arena to cast a vote.",
+        if (voter.uniqueId().equals(session.getSuspectId())) {
+            voter.sendMessage(Component.text("The accused cannot vote on their own punishment.",
                     NamedTextColor.RED));
             return CommandResult.empty();
         }
@@ -561,92 +1095,359 @@ public final class BotanyBayPlugin {
             return CommandResult.empty();
         }
 
-        final UUID voterId = voter.uniqueId();
-        final boolean updatingVote = this.activeTrial.hasVoted(voterId);
-        this.activeTrial.castVote(voterId, option.get());
+        final TrialSession.BallotStatus status = session.castVote(voter.uniqueId(), option.get());
+        if (!status.isAccepted()) {
+            voter.sendMessage(Component.text("Voting has closed for this Botany Bay trial.", NamedTextColor.RED));
+            return CommandResult.empty();
+        }
+        this.voteAudit.record(session, voter.uniqueId(), option.get(), status);
+        if (status != TrialSession.BallotStatus.UNCHANGED) {
+            this.announceStandings(session);
+        }
 
+        final String confirmation;
+        switch (status) {
+            case RECORDED:
+                confirmation = "You voted for ";
+                break;
+            case CHANGED:
+                confirmation = "You changed your vote to ";
+                break;
+            default:
+                confirmation = "You already voted for ";
+                break;
+        }
         voter.sendMessage(Component.text()
-                .append(Component.text(updatingVote ? "You changed your vote to " : "You voted for ",
-                        NamedTextColor.GREEN))
+                .append(Component.text(confirmation, NamedTextColor.GREEN))
                 .append(option.get().displayName())
                 .build());
-        voter.sendMessage(Component.text()
-                .append(Component.text("Current standings: ", NamedTextColor.YELLOW))
-                .append(this.formatVoteSummary(this.activeTrial.getVoteCounts()))
-                .build());
         return CommandResult.success();
     }
 
     private CommandResult executeStatus(final CommandContext context) {
-        if (this.activeTrial == null) {
+        final List<Arena> running = this.dispatcher.running();
+        if (running.isEmpty()) {
             context.cause().sendMessage(Component.text(
                     "No Botany Bay trial is currently running.", NamedTextColor.GRAY));
             return CommandResult.success();
         }
 
-        final Duration elapsed = this.activeTrial.elapsed();
-        final long totalSeconds = TRIAL_DURATION.getSeconds();
-        final long elapsedSeconds = Math.min(elapsed.getSeconds(), totalSeconds);
-        final long remainingSeconds = Math.max(0L, totalSeconds - elapsedSeconds);
+        final Optional<String> zoneName = context.one(this.zoneParameter);
+        if (zoneName.isPresent()) {
+            final Optional<Arena> arena = this.dispatcher.get(zoneName.get()).filter(candidate -> !candidate.isIdle());
+            if (!arena.isPresent()) {
+                context.cause().sendMessage(Component.text(
+                        "No Botany Bay trial is running in arena '" + zoneName.get() + "'.", NamedTextColor.GRAY));
+                return CommandResult.success();
+            }
+            this.sendTrialStatus(context.cause(), arena.get());
+        } else {
+            running.forEach(arena -> this.sendTrialStatus(context.cause(), arena));
+        }
+
+        context.cause().sendMessage(Component.text()
+                .append(Component.text("Queue length: ", NamedTextColor.GRAY))
+                .append(Component.text(this.trialQueue.size(), NamedTextColor.WHITE))
+                .build());
+        return CommandResult.success();
+    }
+
+    private void sendTrialStatus(final Audience audience, final Arena arena) {
+        final TrialSession session = arena.getSession().get();
+        final long remainingSeconds = this.remainingSeconds(session);
         final long minutes = remainingSeconds / 60;
         final long seconds = remainingSeconds % 60;
 
-        context.cause().sendMessage(Component.text("Botany Bay Trial", NamedTextColor.GOLD));
-        context.cause().sendMessage(Component.text()
+        audience.sendMessage(Component.text()
+                .append(Component.text("Botany Bay Trial", NamedTextColor.GOLD))
+                .append(Component.text(" - arena " + arena.getName(), NamedTextColor.GRAY))
+                .build());
+        audience.sendMessage(Component.text()
                 .append(Component.text("Accused: ", NamedTextColor.YELLOW))
-                .append(Component.text(this.activeTrial.getSuspectName(), NamedTextColor.RED))
+                .append(Component.text(session.getSuspectName(), NamedTextColor.RED))
                 .build());
-        context.cause().sendMessage(Component.text()
+        audience.sendMessage(Component.text()
                 .append(Component.text("Charge: ", NamedTextColor.YELLOW))
-                .append(Component.text(this.activeTrial.getAccusation(), NamedTextColor.WHITE))
+                .append(Component.text(session.getAccusation(), NamedTextColor.WHITE))
                 .build());
-        context.cause().sendMessage(Component.text()
+        audience.sendMessage(Component.text()
                 .append(Component.text("Time remaining: ", NamedTextColor.YELLOW))
                 .append(Component.text(String.format(Locale.ROOT, "%02d:%02d", minutes, seconds),
                         NamedTextColor.WHITE))
                 .build());
-        context.cause().sendMessage(Component.text()
+        audience.sendMessage(Component.text()
                 .append(Component.text("Votes: ", NamedTextColor.YELLOW))
-                .append(this.formatVoteSummary(this.activeTrial.getVoteCounts()))
+                .append(this.components.voteSummary(session))
                 .build());
-        context.cause().sendMessage(Component.text()
-                .append(Component.text("Queue length: ", NamedTextColor.GRAY))
-                .append(Component.text(this.trialQueue.size(), NamedTextColor.WHITE))
+        audience.sendMessage(Component.text()
+                .append(Component.text("Crowd in arena: ", NamedTextColor.YELLOW))
+                .append(Component.text(this.arenaCrowd(arena), NamedTextColor.WHITE))
                 .build());
-        return CommandResult.success();
     }
 
     private CommandResult executeCancel(final CommandContext context) {
-        if (this.activeTrial == null) {
-            context.cause().sendMessage(Component.text(
-                    "There is no Botany Bay trial to cancel.", NamedTextColor.RED));
+        final Optional<Arena> arena = this.selectRunningArena(context);
+        if (!arena.isPresent()) {
             return CommandResult.empty();
         }
 
         final Component executorName = this.resolveExecutorName(context.cause());
-        Sponge.server().broadcastAudience().sendMessage(Component.text()
-                .append(Component.text("The Botany Bay trial was dismissed by ", NamedTextColor.GRAY))
+        this.broadcasts.queue(Component.text()
+                .append(Component.text("The Botany Bay trial of ", NamedTextColor.GRAY))
+                .append(Component.text(arena.get().getSession().get().getSuspectName(), NamedTextColor.RED))
+                .append(Component.text(" was dismissed by ", NamedTextColor.GRAY))
                 .append(executorName)
                 .append(Component.text(".", NamedTextColor.GRAY))
                 .build());
-        this.cancelScheduledConclusion();
-        this.activeTrial = null;
+        this.endTrial(arena.get());
         return CommandResult.success();
     }
 
-    private void scheduleConclusion() {
-        this.cancelScheduledConclusion();
-        this.conclusionTask = Task.builder()
-                .delay(TRIAL_DURATION)
-                .plugin(this.pluginContainer)
-                .execute(this::concludeTrial)
-                .submit(Sponge.server().scheduler());
+    private CommandResult executeReload(final CommandContext context) {
+        final Audience audience = context.cause().audience();
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.readConfig();
+            } catch (final ConfigurateException ex) {
+                throw new CompletionException(ex);
+            }
+        }, Sponge.asyncScheduler().executor(this.pluginContainer)).whenCompleteAsync((loaded, error) -> {
+            if (error != null) {
+                final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                this.logger.error("Failed to reload the Botany Bay config: {}", cause.getMessage(), cause);
+                audience.sendMessage(Component.text("Unable to reload the Botany Bay config: " + cause.getMessage(),
+                        NamedTextColor.RED));
+                return;
+            }
+
+            final BotanyBayConfig previous = this.config.getAndSet(loaded);
+            if (loaded.getAutoDrain().isEnabled() != previous.getAutoDrain().isEnabled()) {
+                if (loaded.getAutoDrain().isEnabled()) {
+                    this.autoDrain.enable();
+                } else {
+                    this.autoDrain.disable();
+                }
+            }
+            audience.sendMessage(Component.text(
+                    "Botany Bay config reloaded. Running trials keep their current deadlines.", NamedTextColor.GREEN));
+        }, Sponge.server().scheduler().executor(this.pluginContainer));
+        return CommandResult.success();
     }
 
-    private void cancelScheduledConclusion() {
-        if (this.conclusionTask != null) {
-            this.conclusionTask.cancel();
-            this.conclusionTask = null;
+    private CommandResult executeAutoDrain(final CommandContext context) {
+        final Optional<Boolean> requested = context.one(this.enabledParameter);
+        if (requested.isPresent()) {
+            if (requested.get()) {
+                this.autoDrain.enable();
+            } else {
+                this.autoDrain.disable();
+            }
+            this.logger.info("Botany Bay auto-drain {} by {}.", requested.get() ? "enabled" : "disabled",
+                    PlainTextComponentSerializer.plainText().serialize(this.resolveExecutorName(context.cause())));
+        }
+
+        final BotanyBayConfig.AutoDrain settings = this.config.get().getAutoDrain();
+        context.cause().sendMessage(Component.text()
+                .append(Component.text("Botany Bay auto-drain is ", NamedTextColor.YELLOW))
+                .append(this.autoDrain.isEnabled()
+                        ? Component.text("on", NamedTextColor.GREEN)
+                        : Component.text("off", NamedTextColor.RED))
+                .append(Component.text(String.format(Locale.ROOT,
+                        " (%ds cooldown, at least %d spectator(s) per arena).",
+                        settings.getCooldownTicks() / TrialTimerWheel.TICKS_PER_SECOND,
+                        settings.getMinimumCrowd()), NamedTextColor.GRAY))
+                .build());
+        return CommandResult.success();
+    }
+
+    /**
+     * Counts the spectators gathered at an arena: those inside its zone, or
+     * everyone online if the arena has no zone.
+     */
+    private int arenaCrowd(final Arena arena) {
+        return this.zoneRegistry.get(arena.getName()).isPresent()
+                ? this.arenaPresence.crowd(arena.getName())
+                : Sponge.server().onlinePlayers().size();
+    }
+
+    private void announceWaitingForCrowd(final Arena arena, final int missing) {
+        this.broadcasts.queue(this.drainKey(arena), Component.text()
+                .append(Component.text("The next Botany Bay trial in arena ", NamedTextColor.GRAY))
+                .append(Component.text(arena.getName(), NamedTextColor.YELLOW))
+                .append(Component.text(" starts once " + missing + " more spectator"
+                        + (missing == 1 ? " arrives." : "s arrive."), NamedTextColor.GRAY))
+                .build());
+    }
+
+    /**
+     * Picks the running trial a staff command applies to: the arena named with
+     * {@code -z}, or the only running trial if there is just one.
+     */
+    private Optional<Arena> selectRunningArena(final CommandContext context) {
+        final Optional<String> zoneName = context.one(this.zoneParameter);
+        if (zoneName.isPresent()) {
+            final Optional<Arena> arena = this.dispatcher.get(zoneName.get()).filter(candidate -> !candidate.isIdle());
+            if (!arena.isPresent()) {
+                context.cause().sendMessage(Component.text(
+                        "No Botany Bay trial is running in arena '" + zoneName.get() + "'.", NamedTextColor.RED));
+            }
+            return arena;
+        }
+
+        final List<Arena> running = this.dispatcher.running();
+        if (running.isEmpty()) {
+            context.cause().sendMessage(Component.text("There is no Botany Bay trial running.", NamedTextColor.RED));
+            return Optional.empty();
+        }
+        if (running.size() > 1) {
+            context.cause().sendMessage(Component.text(running.size()
+                    + " Botany Bay trials are running. Choose one with -z <arena>.", NamedTextColor.RED));
+            return Optional.empty();
+        }
+        return Optional.of(running.get(0));
+    }
+
+    private CommandResult executeList(final CommandContext context) {
+        if (this.trialQueue.isEmpty()) {
+            context.cause().sendMessage(Component.text(
+                    "No suspects are waiting for a Botany Bay trial.", NamedTextColor.GRAY));
+            return CommandResult.success();
+        }
+
+        final int pageSize = this.config.get().getQueue().getPageSize();
+        final int pageCount = (this.trialQueue.size() + pageSize - 1) / pageSize;
+        final int page = Math.min(context.one(this.pageParameter).orElse(1), pageCount);
+        final int offset = (page - 1) * pageSize;
+
+        context.cause().sendMessage(Component.text()
+                .append(Component.text("Botany Bay queue ", NamedTextColor.GOLD))
+                .append(Component.text(String.format(Locale.ROOT, "(page %d/%d, %d waiting)",
+                        page, pageCount, this.trialQueue.size()), NamedTextColor.GRAY))
+                .build());
+
+        int position = offset;
+        for (final QueuedSuspect suspect : this.trialQueue.page(offset, pageSize)) {
+            position++;
+            context.cause().sendMessage(Component.text()
+                    .append(Component.text(position + ". ", NamedTextColor.AQUA))
+                    .append(Component.text(suspect.getSuspectName(), NamedTextColor.RED))
+                    .append(Component.text(" - ", NamedTextColor.GRAY))
+                    .append(Component.text(suspect.getAccusation(), NamedTextColor.WHITE))
+                    .build());
+        }
+        return CommandResult.success();
+    }
+
+    private CommandResult executeHistory(final CommandContext context) {
+        final Audience issuer = context.cause().audience();
+        final TrialHistory.Query query = new TrialHistory.Query()
+                .limit(this.config.get().getQueue().getPageSize());
+
+        final Optional<String> requestedVerdict = context.one(this.punishmentParameter);
+        if (requestedVerdict.isPresent()) {
+            final Optional<PunishmentOption> verdict = PunishmentOption.fromInput(requestedVerdict.get());
+            if (!verdict.isPresent()) {
+                issuer.sendMessage(Component.text(
+                        "Unknown punishment option. Choices are: execute, pillory, release.", NamedTextColor.RED));
+                return CommandResult.empty();
+            }
+            query.verdict(verdict.get());
+        }
+
+        final Optional<Integer> days = context.one(this.daysParameter);
+        if (days.isPresent()) {
+            final Instant now = Instant.now();
+            query.endedBetween(now.minus(Duration.ofDays(days.get())), now);
+        }
+
+        final Optional<User> suspect = context.one(this.suspectParameter);
+        suspect.ifPresent(user -> query.suspect(user.uniqueId()));
+        final String subject = suspect.map(user -> "Botany Bay trials of " + user.name())
+                .orElse("Recent Botany Bay trials");
+
+        this.trialHistory.find(query).whenCompleteAsync((records, error) -> {
+            if (error != null) {
+                this.logger.error("Failed to read the Botany Bay trial history: {}", error.getMessage(), error);
+                issuer.sendMessage(Component.text(
+                        "Unable to read the trial history. Check the server console for details.",
+                        NamedTextColor.RED));
+                return;
+            }
+            if (records.isEmpty()) {
+                issuer.sendMessage(Component.text("No finished trials match.", NamedTextColor.GRAY));
+                return;
+            }
+
+            issuer.sendMessage(Component.text()
+                    .append(Component.text(subject + " ", NamedTextColor.GOLD))
+                    .append(Component.text("(newest first)", NamedTextColor.GRAY))
+                    .build());
+            for (final TrialRecord record : records) {
+                issuer.sendMessage(Component.text()
+                        .append(Component.text(HISTORY_TIME_FORMAT.format(record.getEndedAt()) + " ",
+                                NamedTextColor.AQUA))
+                        .append(Component.text(record.getSuspectName(), NamedTextColor.RED))
+                        .append(Component.text(" - ", NamedTextColor.GRAY))
+                        .append(record.getVerdict().map(PunishmentOption::displayName)
+                                .orElse(Component.text("No verdict", NamedTextColor.GRAY)))
+                        .append(Component.text(String.format(Locale.ROOT, " (%d/%d/%d of %d votes)",
+                                record.getVoteCount(PunishmentOption.EXECUTE),
+                                record.getVoteCount(PunishmentOption.PILLORY),
+                                record.getVoteCount(PunishmentOption.RELEASE),
+                                record.getTotalVotes()), NamedTextColor.GRAY))
+                        .hoverEvent(HoverEvent.showText(Component.text(record.getAccusation(), NamedTextColor.WHITE)))
+                        .build());
+            }
+        }, Sponge.server().scheduler().executor(this.pluginContainer));
+
+        return CommandResult.success();
+    }
+
+    private CommandResult executeExtend(final CommandContext context) {
+        final Optional<Arena> arena = this.selectRunningArena(context);
+        if (!arena.isPresent()) {
+            return CommandResult.empty();
+        }
+
+        final int seconds = context.one(this.secondsParameter)
+                .orElse(this.config.get().getTrial().getDefaultExtensionSeconds());
+        arena.get().extend((long) seconds * TrialTimerWheel.TICKS_PER_SECOND);
+        this.broadcasts.queue(Component.text()
+                .append(Component.text("The trial of ", NamedTextColor.YELLOW))
+                .append(Component.text(arena.get().getSession().get().getSuspectName(), NamedTextColor.RED))
+                .append(Component.text(" was extended by " + seconds + " seconds by ", NamedTextColor.YELLOW))
+                .append(this.resolveExecutorName(context.cause()))
+                .append(Component.text(".", NamedTextColor.YELLOW))
+                .build());
+        return CommandResult.success();
+    }
+
+    private void announceRemainingTime(final TrialSession session, final int seconds) {
+        this.broadcasts.queue(this.countdownKey(session), Component.text()
+                .append(Component.text(seconds + " seconds remain in the trial of ", NamedTextColor.AQUA))
+                .append(Component.text(session.getSuspectName(), NamedTextColor.RED))
+                .append(Component.text("! Cast your vote with /botanybay vote.", NamedTextColor.AQUA))
+                .build());
+    }
+
+    private long remainingSeconds(final TrialSession session) {
+        final long remainingTicks = session.remainingTicks(this.timerWheel.currentTick());
+        return (remainingTicks + TrialTimerWheel.TICKS_PER_SECOND - 1) / TrialTimerWheel.TICKS_PER_SECOND;
+    }
+
+    /**
+     * Ends an arena's trial without a verdict.
+     */
+    private void endTrial(final Arena arena) {
+        arena.end().ifPresent(session -> {
+            session.close();
+            this.trialHistory.record(TrialRecord.of(session, Optional.empty()));
+            this.broadcasts.forget(this.standingsKey(session));
+            this.broadcasts.forget(this.countdownKey(session));
+            this.components.forget(session);
+        });
+        this.autoDrain.arenaFreed(arena);
+    }
 
 
     private CommandExecutor startTrialExecutor() {
@@ -899,26 +1700,26 @@ public final class BotanyBayPlugin {
         }
     }
 
-    private void concludeTrial() {
-        if (this.activeTrial == null) {
+    private void concludeTrial(final Arena arena) {
+        final Optional<TrialSession> ended = arena.end();
+        if (!ended.isPresent()) {
             return;
         }
 
-        final TrialSession session = this.activeTrial;
-        this.activeTrial = null;
-        this.conclusionTask = null;
+        final TrialSession session = ended.get();
+        session.close();
 
-        final Map<PunishmentOption, Integer> votes = session.getVoteCounts();
-        final PunishmentOption outcome = this.determineOutcome(votes);
+        final PunishmentOption outcome = this.determineOutcome(session);
+        this.trialHistory.record(TrialRecord.of(session, Optional.of(outcome)));
 
-        Sponge.server().broadcastAudience().sendMessage(Component.text()
+        this.broadcasts.queue(Component.text()
                 .append(Component.text("The Botany Bay trial of ", NamedTextColor.GOLD))
                 .append(Component.text(session.getSuspectName(), NamedTextColor.RED))
                 .append(Component.text(" has concluded!", NamedTextColor.GOLD))
                 .build());
-        Sponge.server().broadcastAudience().sendMessage(Component.text()
+        this.broadcasts.queue(this.standingsKey(session), Component.text()
                 .append(Component.text("Final vote tally: ", NamedTextColor.YELLOW))
-                .append(this.formatVoteSummary(votes))
+                .append(this.components.voteSummary(session))
                 .build());
 
         final Component verdict;
@@ -936,7 +1737,11 @@ public final class BotanyBayPlugin {
                         NamedTextColor.GREEN);
                 break;
         }
-        Sponge.server().broadcastAudience().sendMessage(verdict);
+        this.broadcasts.queue(verdict);
+        this.broadcasts.forget(this.standingsKey(session));
+        this.broadcasts.forget(this.countdownKey(session));
+        this.components.forget(session);
+        this.autoDrain.arenaFreed(arena);
 
         if (activeTrial == null) {
             return;
@@ -972,16 +1777,41 @@ public final class BotanyBayPlugin {
 
     }
 
-    private PunishmentOption determineOutcome(final Map<PunishmentOption, Integer> votes) {
+    /**
+     * Broadcasts the live tally. A burst of votes within one tick sends a single
+     * update, and an update matching the last one sent is dropped.
+     */
+    private void announceStandings(final TrialSession session) {
+        this.broadcasts.queue(this.standingsKey(session), Component.text()
+                .append(Component.text("Standings in the trial of ", NamedTextColor.YELLOW))
+                .append(Component.text(session.getSuspectName(), NamedTextColor.RED))
+                .append(Component.text(": ", NamedTextColor.YELLOW))
+                .append(this.components.voteSummary(session))
+                .build());
+    }
+
+    private String standingsKey(final TrialSession session) {
+        return "standings:" + session.getSuspectId();
+    }
+
+    private String countdownKey(final TrialSession session) {
+        return "countdown:" + session.getSuspectId();
+    }
+
+    private String drainKey(final Arena arena) {
+        return "drain:" + arena.getName().toLowerCase(Locale.ROOT);
+    }
+
+    private PunishmentOption determineOutcome(final TrialSession session) {
         PunishmentOption selected = PunishmentOption.RELEASE;
         int highest = -1;
         boolean tie = false;
 
-        for (final Map.Entry<PunishmentOption, Integer> entry : votes.entrySet()) {
-            final int count = entry.getValue();
+        for (final PunishmentOption option : PunishmentOption.values()) {
+            final int count = session.getVoteCount(option);
             if (count > highest) {
                 highest = count;
-                selected = entry.getKey();
+                selected = option;
                 tie = false;
             } else if (count == highest) {
                 tie = true;
@@ -1006,11 +1836,18 @@ public final class BotanyBayPlugin {
         final Vector3i blockPos = player.location().blockPosition();
         final Vector3d centered = new Vector3d(blockPos.x() + 0.5, blockPos.y(), blockPos.z() + 0.5);
         final ServerLocation location = ServerLocation.of(player.world(), centered);
-        this.npcSpawnLocation = Optional.of(location);
-        this.despawnActiveNpc();
+        final Arena arena = this.dispatcher.arena(context.one(this.zoneParameter).orElse(DEFAULT_ZONE_NAME));
+        arena.setNpcSpawn(StoredLocation.of(location));
+        this.saveArenaLayout();
+        // Only the default arena's spawn hosts the pooled NPCs of queued suspects.
+        if (arena == this.dispatcher.defaultArena()) {
+            this.npcPool.clear();
+        }
 
         player.sendMessage(Component.text()
-                .append(Component.text("Botany Bay NPC spawn set at ", NamedTextColor.GREEN))
+                .append(Component.text("Botany Bay NPC spawn for arena ", NamedTextColor.GREEN))
+                .append(Component.text(arena.getName(), NamedTextColor.YELLOW))
+                .append(Component.text(" set at ", NamedTextColor.GREEN))
                 .append(Component.text(this.formatBlockPosition(blockPos), NamedTextColor.YELLOW))
                 .append(Component.text(".", NamedTextColor.GREEN))
                 .build());
@@ -1026,7 +1863,8 @@ public final class BotanyBayPlugin {
         }
 
         final ServerPlayer player = (ServerPlayer) root;
-        final ZoneSelection selection = new ZoneSelection(player.world().uniqueId());
+        final String zoneName = context.one(this.zoneParameter).orElse(DEFAULT_ZONE_NAME);
+        final ZoneSelection selection = new ZoneSelection(zoneName, player.world().uniqueId());
         this.pendingZoneSelections.put(player.uniqueId(), selection);
         player.sendMessage(Component.text("Left click a block for the first corner, right click for the second.",
                 NamedTextColor.YELLOW));
@@ -1042,12 +1880,79 @@ public final class BotanyBayPlugin {
         }
 
         final ServerPlayer player = (ServerPlayer) root;
-        this.pendingBanSignSelections.add(player.uniqueId());
+        this.pendingBanSignSelections.put(player.uniqueId(),
+                context.one(this.zoneParameter).orElse(DEFAULT_ZONE_NAME));
         player.sendMessage(Component.text("Right click the sign that should display the latest accusation.",
                 NamedTextColor.YELLOW));
         return CommandResult.success();
     }
 
+    private CommandResult executeSetBanBoard(final CommandContext context) {
+        final Object root = context.cause().root();
+        if (!(root instanceof ServerPlayer)) {
+            context.cause().sendMessage(Component.text(
+                    "Only players can bind the Botany Bay ban board.", NamedTextColor.RED));
+            return CommandResult.empty();
+        }
+
+        final ServerPlayer player = (ServerPlayer) root;
+        this.pendingBanBoardSelections.add(player.uniqueId());
+        this.pendingBanBoardCorners.remove(player.uniqueId());
+        player.sendMessage(Component.text("Right click the top-left sign of the board, then the bottom-right sign.",
+                NamedTextColor.YELLOW));
+        return CommandResult.success();
+    }
+
+    private void selectBanBoardCorner(final ServerPlayer player, final ServerLocation location) {
+        if (!location.blockEntity(Sign.class).isPresent()) {
+            player.sendMessage(Component.text("That block is not a sign.", NamedTextColor.RED));
+            return;
+        }
+
+        final ServerLocation first = this.pendingBanBoardCorners.remove(player.uniqueId());
+        if (first == null) {
+            this.pendingBanBoardCorners.put(player.uniqueId(), location);
+            player.sendMessage(Component.text("Now right click the sign at the opposite corner of the board.",
+                    NamedTextColor.YELLOW));
+            return;
+        }
+        this.pendingBanBoardSelections.remove(player.uniqueId());
+
+        final Vector3i from = first.blockPosition();
+        final Vector3i to = location.blockPosition();
+        final boolean flat = from.x() == to.x() || from.z() == to.z();
+        if (!flat || !first.world().uniqueId().equals(location.world().uniqueId())) {
+            player.sendMessage(Component.text(
+                    "Both corners must lie in one flat wall. Run /botanybay set banboard to try again.",
+                    NamedTextColor.RED));
+            return;
+        }
+        final int columns = Math.abs(from.x() - to.x()) + Math.abs(from.z() - to.z()) + 1;
+        if (columns * (Math.abs(from.y() - to.y()) + 1) > BanBoard.MAX_SIGNS) {
+            player.sendMessage(Component.text("A ban board may span at most " + BanBoard.MAX_SIGNS + " blocks.",
+                    NamedTextColor.RED));
+            return;
+        }
+
+        final List<StoredLocation> signs = BanBoard.scanWall(location.world(), from, to);
+        this.banBoard.bind(signs);
+        this.saveArenaLayout();
+        player.sendMessage(Component.text()
+                .append(Component.text("Ban board bound with ", NamedTextColor.GREEN))
+                .append(Component.text(signs.size(), NamedTextColor.YELLOW))
+                .append(Component.text(signs.size() == 1 ? " sign." : " signs.", NamedTextColor.GREEN))
+                .build());
+    }
+
+    private List<Component> renderBoardEntry(final int position, final QueuedSuspect suspect) {
+        final List<String> accusationLines = this.accusationLayout.layout(suspect.getAccusation());
+        return List.of(
+                Component.text("#" + position + " in queue", NamedTextColor.GOLD),
+                Component.text(this.signLineLayout.fit(suspect.getSuspectName()), NamedTextColor.DARK_RED),
+                Component.text(accusationLines.get(0), NamedTextColor.WHITE),
+                Component.text(accusationLines.size() > 1 ? accusationLines.get(1) : "", NamedTextColor.WHITE));
+    }
+
     @Listener
     public void onPrimaryInteract(final InteractBlockEvent.Primary event, @Root final ServerPlayer player) {
         final ZoneSelection selection = this.pendingZoneSelections.get(player.uniqueId());
@@ -1074,18 +1979,28 @@ public final class BotanyBayPlugin {
 
     @Listener
     public void onSecondaryInteract(final InteractBlockEvent.Secondary event, @Root final ServerPlayer player) {
-        if (this.pendingBanSignSelections.remove(player.uniqueId())) {
+        if (this.pendingBanBoardSelections.contains(player.uniqueId())) {
+            event.block().location().ifPresent(location -> this.selectBanBoardCorner(player, location));
+            return;
+        }
+
+        final String signArenaName = this.pendingBanSignSelections.remove(player.uniqueId());
+        if (signArenaName != null) {
             event.block().location().ifPresent(location -> {
                 final Optional<Sign> sign = location.blockEntity(Sign.class);
                 if (!sign.isPresent()) {
                     player.sendMessage(Component.text("That block is not a sign.", NamedTextColor.RED));
-                    this.pendingBanSignSelections.add(player.uniqueId());
+                    this.pendingBanSignSelections.put(player.uniqueId(), signArenaName);
                     return;
                 }
 
-                this.banSignLocation = Optional.of(location);
-                player.sendMessage(Component.text("Ban sign bound successfully!", NamedTextColor.GREEN));
-                this.resetBanSignMessage();
+                final Arena arena = this.dispatcher.arena(signArenaName);
+                arena.getBanSign().ifPresent(this.signWriter::forget);
+                arena.setBanSign(StoredLocation.of(location));
+                this.saveArenaLayout();
+                player.sendMessage(Component.text("Ban sign bound to arena " + arena.getName() + " successfully!",
+                        NamedTextColor.GREEN));
+                this.resetBanSignMessage(arena);
             });
             return;
         }
@@ -1208,37 +2123,79 @@ public final class BotanyBayPlugin {
                 Math.max(selection.firstCorner.y(), selection.secondCorner.y()),
                 Math.max(selection.firstCorner.z(), selection.secondCorner.z()));
 
-        this.voteZone = Optional.of(new VoteZone(selection.worldId, min, max));
+        this.zoneRegistry.register(new VoteZone(selection.name, selection.worldId, min, max));
+        this.autoDrain.arenaAdded(this.dispatcher.arena(selection.name));
         this.pendingZoneSelections.remove(player.uniqueId());
-        player.sendMessage(Component.text("Botany Bay voting zone saved!", NamedTextColor.GREEN));
+        this.saveArenaLayout();
+        Sponge.server().onlinePlayers().forEach(this.arenaPresence::refresh);
+        player.sendMessage(Component.text()
+                .append(Component.text("Botany Bay voting zone ", NamedTextColor.GREEN))
+                .append(Component.text(selection.name, NamedTextColor.YELLOW))
+                .append(Component.text(" saved!", NamedTextColor.GREEN))
+                .build());
     }
 
-    private void spawnSuspectNpc(final User suspect) {
-        if (!this.npcSpawnLocation.isPresent()) {
+    /**
+     * Finds the trial a player's vote counts towards.
+     *
+     * <p>Players standing in an arena vote in that arena's trial. Outside any
+     * busy arena, a vote goes to the trial held in an arena without a zone,
+     * provided there is exactly one such trial.</p>
+     */
+    private Optional<TrialSession> trialForVoter(final ServerPlayer voter) {
+        final Optional<VoteZone> zone = this.zoneRegistry.zoneAt(voter.location());
+        if (zone.isPresent()) {
+            final Optional<TrialSession> local = this.dispatcher.get(zone.get().getName())
+                    .flatMap(Arena::getSession);
+            if (local.isPresent()) {
+                return local;
+            }
+        }
+
+        TrialSession open = null;
+        for (final Arena arena : this.dispatcher.running()) {
+            if (!this.zoneRegistry.get(arena.getName()).isPresent()) {
+                if (open != null) {
+                    return Optional.empty();
+                }
+                open = arena.getSession().get();
+            }
+        }
+        return Optional.ofNullable(open);
+    }
+
+    /**
+     * Shows a queued suspect at the NPC spawn once their skin has been resolved.
+     */
+    private void spawnSuspectNpc(final GameProfile profile) {
+        if (!this.dispatcher.defaultArena().getNpcSpawn().isPresent()) {
             return;
         }
 
-        final ServerLocation location = this.npcSpawnLocation.get();
-        final ServerWorld world = location.world();
-        final Vector3d position = location.position();
+        this.skinResolver.resolve(profile).thenAcceptAsync(resolved -> {
+            // The suspect may have been tried or released while the skin was being fetched.
+            if (this.trialQueue.contains(resolved.uniqueId())) {
+                this.showSuspectNpc(resolved);
+            }
+        }, Sponge.server().scheduler().executor(this.pluginContainer));
+    }
 
-        final Entity entity = world.createEntity(EntityTypes.HUMAN.get(), position);
-        if (!(entity instanceof Humanoid)) {
-            this.logger.warn("Failed to create a humanoid NPC for {}.", suspect.name());
+    private void showSuspectNpc(final GameProfile profile) {
+        final Optional<ServerLocation> spawn = this.dispatcher.defaultArena().getNpcSpawn()
+                .flatMap(StoredLocation::resolve);
+        if (!spawn.isPresent()) {
             return;
         }
 
-        final Humanoid humanoid = (Humanoid) entity;
-        final GameProfile profile = suspect.profile();
-        humanoid.offer(Keys.GAME_PROFILE, profile);
+        final ServerLocation location = spawn.get();
+        final Vector3d position = location.position();
+        final String suspectName = profile.name().orElse(profile.uniqueId().toString());
 
-        if (world.spawnEntity(humanoid)) {
-            this.npcEntityId = humanoid.uniqueId();
-        } else {
+        if (!this.npcPool.show(profile, location)) {
 
-            this.logger.warn("Unable to spawn Botany Bay NPC for {} at {}.", suspect.name(), position);
+            this.logger.warn("Unable to spawn Botany Bay NPC for {} at {}.", suspectName, position);
 
-            this.logger.warn("Unable to spawn Botany Bay NPC for {} at {}.", suspect.name(), position)
+            this.logger.warn("Unable to spawn Botany Bay NPC for {} at {}.", suspectName, position)
         if (!selection.getWorldId().equals(location.getExtent().getUniqueId())) {
             player.sendMessage(Text.of(TextColors.RED,
                     "Selections must be made in the same world. Restart with /botanybay setzone."));
@@ -1308,19 +2265,8 @@ public final class BotanyBayPlugin {
         }
     }
 
-    private void despawnActiveNpc() {
-        if (this.npcEntityId == null) {
-            return;
-        }
-
-        for (final ServerWorld world : Sponge.server().worldManager().worlds()) {
-            world.entity(this.npcEntityId).ifPresent(Entity::remove);
-        }
-        this.npcEntityId = null;
-    }
-
-    private boolean updateBanSign(final String suspectName, final String accusation) {
-        final Optional<Sign> signOptional = this.getBanSign();
+    private boolean updateBanSign(final Arena arena, final String suspectName, final String accusation) {
+        final Optional<StoredLocation> signLocation = arena.getBanSign();
 
         if (npcEntityId == null) {
             return;
@@ -1344,12 +2290,12 @@ public final class BotanyBayPlugin {
     private boolean updateBanSign(final String suspectName, final String accusation) {
         final Optional<Sign> signOptional = getBanSign();
 
-        if (!signOptional.isPresent()) {
+        if (!signLocation.isPresent()) {
             return false;
         }
 
-        final List<String> accusationLines = this.wrapAccusationLines(accusation);
-        final String nameLine = this.trimForSign(suspectName);
+        final List<String> accusationLines = this.accusationLayout.layout(accusation);
+        final String nameLine = this.signLineLayout.fit(suspectName);
 
         final List<Component> lines = new ArrayList<>(4);
         lines.add(Component.text(nameLine, NamedTextColor.DARK_RED));
@@ -1357,7 +2303,7 @@ public final class BotanyBayPlugin {
         lines.add(Component.text(accusationLines.get(0), NamedTextColor.WHITE));
         lines.add(Component.text(accusationLines.size() > 1 ? accusationLines.get(1) : "", NamedTextColor.WHITE));
 
-        signOptional.get().offer(Keys.SIGN_LINES, lines);
+        return this.signWriter.write(signLocation.get(), lines);
 
 
         final List<String> accusationLines = wrapAccusationLines(accusation);
@@ -1372,12 +2318,12 @@ public final class BotanyBayPlugin {
         return true;
     }
 
-    private void resetBanSignMessage() {
-        final Optional<Sign> signOptional = this.getBanSign();
+    private void resetBanSignMessage(final Arena arena) {
+        final Optional<StoredLocation> signLocation = arena.getBanSign();
 
         final Optional<Sign> signOptional = getBanSign();
 
-        if (!signOptional.isPresent()) {
+        if (!signLocation.isPresent()) {
             return;
         }
 
@@ -1394,20 +2340,10 @@ public final class BotanyBayPlugin {
                 Text.of("")
 
         );
-        signOptional.get().offer(Keys.SIGN_LINES, defaultLines);
+        this.signWriter.write(signLocation.get(), defaultLines);
     }
 
     private Optional<Sign> getBanSign() {
-        if (!this.banSignLocation.isPresent()) {
-            return Optional.empty();
-        }
-
-        final ServerLocation location = this.banSignLocation.get();
-        final Optional<Sign> signOptional = location.blockEntity(Sign.class);
-        if (!signOptional.isPresent()) {
-            this.logger.warn("Configured Botany Bay ban sign is missing at {}",
-                    this.formatBlockPosition(location.blockPosition()));
-
         if (!banSignLocation.isPresent()) {
             return Optional.empty();
         }
@@ -1421,77 +2357,11 @@ public final class BotanyBayPlugin {
         return signOptional;
     }
 
-    private List<String> wrapAccusationLines(final String accusation) {
-        final String sanitized = Optional.ofNullable(accusation).orElse("").trim();
-        if (sanitized.isEmpty()) {
-            return List.of("");
-
-            return Arrays.asList("");
-
-        }
-
-        final List<String> lines = new ArrayList<>();
-        int index = 0;
-        while (index < sanitized.length() && lines.size() < 2) {
-            final int end = Math.min(sanitized.length(), index + SIGN_LINE_LENGTH);
-            lines.add(sanitized.substring(index, end));
-            index = end;
-        }
-
-        if (sanitized.length() > SIGN_LINE_LENGTH * 2) {
-            final String second = lines.get(1);
-            final int trimLength = Math.max(0, SIGN_LINE_LENGTH - 3);
-            final String truncated = second.length() > trimLength
-                    ? second.substring(0, trimLength) + "..."
-                    : (second + "...").substring(0, Math.min(second.length() + 3, SIGN_LINE_LENGTH));
-            lines.set(1, truncated);
-        }
-        return lines;
-    }
-
-    private String trimForSign(final String value) {
-        final String sanitized = Optional.ofNullable(value).orElse("").trim();
-        if (sanitized.length() <= SIGN_LINE_LENGTH) {
-            return sanitized;
-        }
-        return sanitized.substring(0, SIGN_LINE_LENGTH - 3) + "...";
-    }
-
-    private Component formatVoteOptions() {
-        final Component execute = PunishmentOption.EXECUTE.displayName()
-                .clickEvent(ClickEvent.runCommand("/botanybay vote " + PunishmentOption.EXECUTE.getId()))
-                .hoverEvent(HoverEvent.showText(Component.text(PunishmentOption.EXECUTE.getDescription())));
-
-        final Component pillory = PunishmentOption.PILLORY.displayName()
-                .clickEvent(ClickEvent.runCommand("/botanybay vote " + PunishmentOption.PILLORY.getId()))
-                .hoverEvent(HoverEvent.showText(Component.text(PunishmentOption.PILLORY.getDescription())));
-
-        final Component release = PunishmentOption.RELEASE.displayName()
-                .clickEvent(ClickEvent.runCommand("/botanybay vote " + PunishmentOption.RELEASE.getId()))
-                .hoverEvent(HoverEvent.showText(Component.text(PunishmentOption.RELEASE.getDescription())));
-
-        return Component.join(JoinConfiguration.separator(Component.text(" | ", NamedTextColor.GRAY)),
-                execute, pillory, release);
-    }
-
-    private Component formatVoteSummary(final Map<PunishmentOption, Integer> counts) {
-        return Component.join(JoinConfiguration.separator(Component.text(" | ", NamedTextColor.GRAY)),
-                Component.text("Execution: ", NamedTextColor.DARK_RED)
-                        .append(Component.text(counts.getOrDefault(PunishmentOption.EXECUTE, 0),
-                                NamedTextColor.WHITE)),
-                Component.text("Pillory: ", NamedTextColor.GOLD)
-                        .append(Component.text(counts.getOrDefault(PunishmentOption.PILLORY, 0),
-                                NamedTextColor.WHITE)),
-                Component.text("Release: ", NamedTextColor.GREEN)
-                        .append(Component.text(counts.getOrDefault(PunishmentOption.RELEASE, 0),
-                                NamedTextColor.WHITE)));
-    }
-
     private void removeFromQueue(final UUID suspectId) {
-        if (!this.queuedSuspects.remove(suspectId)) {
-            return;
+        if (this.trialQueue.remove(suspectId).isPresent()) {
+            this.queueJournal.recordDequeue(suspectId);
         }
-        final Iterator<QueuedSuspect> iterator = this.trialQueue.iterator();
+    }
 
 
     private Text formatVoteOptions() {
@@ -1551,11 +2421,13 @@ public final class BotanyBayPlugin {
     }
 
     private static final class ZoneSelection {
+        private final String name;
         private final UUID worldId;
         private Vector3i firstCorner;
         private Vector3i secondCorner;
 
-        private ZoneSelection(final UUID worldId) {
+        private ZoneSelection(final String name, final UUID worldId) {
+            this.name = name;
             this.worldId = worldId;
         }
 
@@ -0,0 +1,96 @@
+package com.botanybay;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.scheduler.Task;
+
+/**
+ * Coalesces server-wide Botany Bay announcements.
+ *
+ * <p>Messages queued during a tick are joined into one multi-line component and
+ * sent to every player once at the start of the next tick, so an event that
+ * produces several lines costs each recipient a single chat packet. Messages
+ * queued under a key replace any earlier message with the same key in that
+ * batch, and are dropped entirely if they match what was last sent for the
+ * key. Must only be used from the main thread.</p>
+ */
+final class BroadcastBatcher {
+
+    private final PluginContainer plugin;
+    private final List<Component> pending = new ArrayList<>();
+    private final Map<String, Integer> pendingSlotByKey = new HashMap<>();
+    private final Map<String, Component> lastSentByKey = new HashMap<>();
+    private boolean flushScheduled;
+
+    BroadcastBatcher(final PluginContainer plugin) {
+        this.plugin = plugin;
+    }
+
+    void queue(final Component message) {
+        this.pending.add(message);
+        this.scheduleFlush();
+    }
+
+    /**
+     * Queues a message that supersedes earlier messages sharing the same key,
+     * such as a standings update.
+     */
+    void queue(final String key, final Component message) {
+        final Integer slot = this.pendingSlotByKey.get(key);
+        if (slot != null) {
+            this.pending.set(slot, message);
+            return;
+        }
+        if (message.equals(this.lastSentByKey.get(key))) {
+            return;
+        }
+
+        this.pendingSlotByKey.put(key, this.pending.size());
+        this.pending.add(message);
+        this.scheduleFlush();
+    }
+
+    /**
+     * Stops tracking a key, e.g. once the trial it described has ended. A
+     * message still pending under the key is sent as normal.
+     */
+    void forget(final String key) {
+        this.pendingSlotByKey.remove(key);
+        this.lastSentByKey.remove(key);
+    }
+
+    void flush() {
+        this.flushScheduled = false;
+        if (this.pending.isEmpty()) {
+            return;
+        }
+
+        for (final Map.Entry<String, Integer> keyed : this.pendingSlotByKey.entrySet()) {
+            this.lastSentByKey.put(keyed.getKey(), this.pending.get(keyed.getValue()));
+        }
+
+        final Component batch = this.pending.size() == 1
+                ? this.pending.get(0)
+                : Component.join(JoinConfiguration.newlines(), this.pending);
+        this.pending.clear();
+        this.pendingSlotByKey.clear();
+        Sponge.server().broadcastAudience().sendMessage(batch);
+    }
+
+    private void scheduleFlush() {
+        if (this.flushScheduled) {
+            return;
+        }
+        this.flushScheduled = true;
+        Sponge.server().scheduler().submit(Task.builder()
+                .plugin(this.plugin)
+                .execute(this::flush)
+                .build());
+    }
+}
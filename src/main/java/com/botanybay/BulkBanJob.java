@@ -0,0 +1,255 @@
+package com.botanybay;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.profile.GameProfileCache;
+import org.spongepowered.api.profile.GameProfileManager;
+import org.spongepowered.api.profile.ProfileNotFoundException;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+
+/**
+ * Bans and queues a whole list of suspects at once.
+ *
+ * <p>Profile lookups and then bans are both submitted a fixed number per tick,
+ * so a long list neither floods the profile service with requests nor
+ * monopolises a single tick. A target whose lookup fails, for example because
+ * the profile service is rate limiting, is reported as failed rather than as
+ * an unknown player. Once every ban has settled the completion callback runs on the main
+ * thread with one {@link Entry} per requested target.</p>
+ */
+final class BulkBanJob {
+
+    enum Outcome {
+        BANNED,
+        ALREADY_BANNED,
+        SKIPPED,
+        UNRESOLVED,
+        FAILED
+    }
+
+    static final class Entry {
+        private final String target;
+        private final String accusation;
+        private GameProfile profile;
+        private Outcome outcome = Outcome.FAILED;
+        private String detail = "";
+
+        Entry(final String target, final String accusation) {
+            this.target = target;
+            this.accusation = accusation;
+        }
+
+        String getTarget() {
+            return target;
+        }
+
+        String getAccusation() {
+            return accusation;
+        }
+
+        Optional<GameProfile> getProfile() {
+            return Optional.ofNullable(profile);
+        }
+
+        String getDisplayName() {
+            return profile == null ? target : profile.name().orElse(target);
+        }
+
+        Outcome getOutcome() {
+            return outcome;
+        }
+
+        String getDetail() {
+            return detail;
+        }
+    }
+
+    private final PluginContainer plugin;
+    private final int batchSize;
+    private final BiFunction<GameProfile, String, CompletableFuture<Boolean>> banner;
+    private final Predicate<UUID> alreadyHandled;
+    private final Consumer<List<Entry>> completion;
+    private final List<Entry> entries;
+    private final Deque<Entry> pendingLookups = new ArrayDeque<>();
+    private final List<CompletableFuture<Void>> submittedLookups = new ArrayList<>();
+    private final Deque<Entry> pendingBans = new ArrayDeque<>();
+    private final List<CompletableFuture<Void>> submittedBans = new ArrayList<>();
+
+    /**
+     * @param alreadyHandled tested once per resolved suspect, on the main thread, before any ban is
+     *     submitted; every suspect it rejects is banned by this job and reported to the completion
+     */
+    BulkBanJob(final PluginContainer plugin, final int batchSize, final List<Entry> entries,
+            final BiFunction<GameProfile, String, CompletableFuture<Boolean>> banner,
+            final Predicate<UUID> alreadyHandled, final Consumer<List<Entry>> completion) {
+        this.plugin = plugin;
+        this.batchSize = batchSize;
+        this.banner = banner;
+        this.entries = entries;
+        this.alreadyHandled = alreadyHandled;
+        this.completion = completion;
+    }
+
+    /**
+     * Reads targets from a file, one per line, optionally followed by a reason.
+     * Blank lines and lines starting with {@code #} are ignored.
+     */
+    static List<Entry> readTargets(final Path file, final String defaultAccusation) throws IOException {
+        final List<Entry> targets = new ArrayList<>();
+        for (final String rawLine : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            final String line = rawLine.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            final int split = line.indexOf(' ');
+            if (split < 0) {
+                targets.add(new Entry(line, defaultAccusation));
+            } else {
+                final String reason = line.substring(split + 1).trim();
+                targets.add(new Entry(line.substring(0, split), reason.isEmpty() ? defaultAccusation : reason));
+            }
+        }
+        return targets;
+    }
+
+    void start() {
+        this.pendingLookups.addAll(this.entries);
+        Sponge.server().scheduler().submit(Task.builder()
+                .plugin(this.plugin)
+                .interval(Ticks.single())
+                .execute(this::submitLookups)
+                .build());
+    }
+
+    private void submitLookups(final ScheduledTask task) {
+        for (int i = 0; i < this.batchSize && !this.pendingLookups.isEmpty(); i++) {
+            this.submittedLookups.add(this.lookUp(this.pendingLookups.poll()));
+        }
+
+        if (this.pendingLookups.isEmpty()) {
+            task.cancel();
+            CompletableFuture.allOf(this.submittedLookups.toArray(new CompletableFuture<?>[0]))
+                    .thenRunAsync(this::beginBanning, Sponge.server().scheduler().executor(this.plugin));
+        }
+    }
+
+    private CompletableFuture<Void> lookUp(final Entry entry) {
+        return resolve(entry.target).handle((profile, error) -> {
+            final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (profile != null) {
+                entry.profile = profile;
+            } else if (cause == null || cause instanceof ProfileNotFoundException) {
+                entry.outcome = Outcome.UNRESOLVED;
+                entry.detail = "no such player";
+            } else {
+                entry.outcome = Outcome.FAILED;
+                entry.detail = "lookup failed, " + cause.getMessage();
+            }
+            return null;
+        });
+    }
+
+    private void beginBanning() {
+        final Set<UUID> seen = new HashSet<>();
+        for (final Entry entry : this.entries) {
+            if (entry.profile == null) {
+                continue;
+            }
+            final UUID suspectId = entry.profile.uniqueId();
+            if (!seen.add(suspectId)) {
+                entry.outcome = Outcome.SKIPPED;
+                entry.detail = "listed more than once";
+                continue;
+            }
+            if (this.alreadyHandled.test(suspectId)) {
+                entry.outcome = Outcome.SKIPPED;
+                entry.detail = "already queued or on trial";
+                continue;
+            }
+            this.pendingBans.add(entry);
+        }
+
+        if (this.pendingBans.isEmpty()) {
+            this.completion.accept(Collections.unmodifiableList(this.entries));
+            return;
+        }
+
+        Sponge.server().scheduler().submit(Task.builder()
+                .plugin(this.plugin)
+                .interval(Ticks.single())
+                .execute(this::submitBatch)
+                .build());
+    }
+
+    private void submitBatch(final ScheduledTask task) {
+        for (int i = 0; i < this.batchSize && !this.pendingBans.isEmpty(); i++) {
+            this.submittedBans.add(this.ban(this.pendingBans.poll()));
+        }
+
+        if (this.pendingBans.isEmpty()) {
+            task.cancel();
+            CompletableFuture.allOf(this.submittedBans.toArray(new CompletableFuture<?>[0]))
+                    .whenCompleteAsync((ignored, error) -> this.completion.accept(
+                            Collections.unmodifiableList(this.entries)),
+                            Sponge.server().scheduler().executor(this.plugin));
+        }
+    }
+
+    private CompletableFuture<Void> ban(final Entry entry) {
+        return this.banner.apply(entry.profile, entry.accusation).handle((newlyBanned, error) -> {
+            if (error != null) {
+                entry.outcome = Outcome.FAILED;
+                entry.detail = "ban failed, " + error.getMessage();
+            } else {
+                entry.outcome = newlyBanned ? Outcome.BANNED : Outcome.ALREADY_BANNED;
+            }
+            return null;
+        });
+    }
+
+    private static CompletableFuture<GameProfile> resolve(final String target) {
+        final GameProfileManager profiles = Sponge.server().gameProfileManager();
+        final GameProfileCache cache = profiles.cache();
+
+        final Optional<UUID> uniqueId = parseUniqueId(target);
+        if (uniqueId.isPresent()) {
+            final Optional<GameProfile> cached = cache.findById(uniqueId.get());
+            return cached.isPresent()
+                    ? CompletableFuture.completedFuture(cached.get())
+                    : profiles.profile(uniqueId.get());
+        }
+
+        final Optional<GameProfile> cached = cache.findByName(target);
+        return cached.isPresent() ? CompletableFuture.completedFuture(cached.get()) : profiles.profile(target);
+    }
+
+    private static Optional<UUID> parseUniqueId(final String target) {
+        try {
+            return Optional.of(UUID.fromString(target));
+        } catch (final IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.botanybay;
+
+import java.lang.ref.WeakReference;
+import java.util.Optional;
+import java.util.UUID;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * Direct handle to a spawned Botany Bay NPC.
+ *
+ * <p>The entity is held weakly, so a handle never keeps an unloaded world's
+ * entity alive, and its world and chunk are recorded at spawn time. Removing
+ * the NPC goes straight to the entity while it is still live and otherwise
+ * asks only its own world, instead of searching every world. NPCs are frozen
+ * in place, so the recorded chunk stays accurate for chunk unload checks.</p>
+ *
+ * <p>Must only be used from the main server thread.</p>
+ */
+final class NpcHandle {
+
+    private final UUID entityId;
+    private final ResourceKey worldKey;
+    private final Vector3i chunkPosition;
+    private final WeakReference<Entity> entity;
+
+    private NpcHandle(final Entity entity, final ServerLocation location) {
+        this.entityId = entity.uniqueId();
+        this.worldKey = location.worldKey();
+        this.chunkPosition = location.chunkPosition();
+        this.entity = new WeakReference<>(entity);
+    }
+
+    static NpcHandle of(final Entity entity) {
+        return new NpcHandle(entity, entity.serverLocation());
+    }
+
+    UUID getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Returns the entity while it is still live and referenced.
+     */
+    Optional<Entity> entity() {
+        final Entity live = entity.get();
+        return live == null || live.isRemoved() ? Optional.empty() : Optional.of(live);
+    }
+
+    boolean isIn(final ResourceKey worldKey, final Vector3i chunkPosition) {
+        return this.worldKey.equals(worldKey) && this.chunkPosition.equals(chunkPosition);
+    }
+
+    /**
+     * Removes the NPC if it still exists.
+     */
+    void remove() {
+        final Entity live = entity.get();
+        if (live != null) {
+            if (!live.isRemoved()) {
+                live.remove();
+            }
+            return;
+        }
+        Sponge.server().worldManager().world(worldKey)
+                .flatMap(world -> world.entity(entityId))
+                .ifPresent(Entity::remove);
+    }
+}
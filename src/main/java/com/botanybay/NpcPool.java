@@ -0,0 +1,188 @@
+package com.botanybay;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.IntSupplier;
+import org.slf4j.Logger;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.data.Keys;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntityTypes;
+import org.spongepowered.api.entity.living.Humanoid;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * Bounded set of frozen humanoids standing around the NPC spawn, one per
+ * recently condemned suspect.
+ *
+ * <p>Once the pool is full, showing another suspect re-skins the NPC that has
+ * gone longest without being shown instead of spawning a new entity, so a ban
+ * wave never puts more than the configured number of NPCs in the arena. Each
+ * NPC keeps its own slot on a small ring around the spawn point so they do not
+ * stand inside one another. The spawn point itself is left free for the
+ * suspect on trial in that arena.</p>
+ *
+ * <p>Must only be used from the main server thread.</p>
+ */
+final class NpcPool {
+
+    private static final int SLOTS_PER_RING = 8;
+    private static final double RING_SPACING = 1.5;
+
+    private final Logger logger;
+    private final IntSupplier capacity;
+    // Ordered from least to most recently shown.
+    private final Map<UUID, PooledNpc> npcs = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * @param capacity the most NPCs that may exist at once, read on every call
+     */
+    NpcPool(final Logger logger, final IntSupplier capacity) {
+        this.logger = logger;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Shows the suspect at the spawn point, reusing the oldest NPC once the pool is full.
+     *
+     * @return {@code false} if no NPC could be spawned
+     */
+    boolean show(final GameProfile profile, final ServerLocation spawn) {
+        final PooledNpc current = npcs.get(profile.uniqueId());
+        if (current != null) {
+            if (current.handle.entity().isPresent()) {
+                return true;
+            }
+            npcs.remove(profile.uniqueId());
+        }
+
+        final int limit = Math.max(1, capacity.getAsInt());
+        while (npcs.size() > limit) {
+            this.evictEldest();
+        }
+
+        if (npcs.size() == limit) {
+            final Iterator<PooledNpc> eldest = npcs.values().iterator();
+            final PooledNpc reused = eldest.next();
+            eldest.remove();
+            final Optional<Entity> entity = reused.handle.entity();
+            if (entity.isPresent() && entity.get() instanceof Humanoid) {
+                ((Humanoid) entity.get()).offer(Keys.GAME_PROFILE, profile);
+                npcs.put(profile.uniqueId(), reused);
+                return true;
+            }
+            reused.handle.remove();
+            return this.spawn(profile, spawn, reused.slot);
+        }
+
+        return this.spawn(profile, spawn, this.freeSlot());
+    }
+
+    /**
+     * Removes the NPC showing the given suspect, if there is one.
+     */
+    void release(final UUID suspectId) {
+        final PooledNpc npc = npcs.remove(suspectId);
+        if (npc != null) {
+            npc.handle.remove();
+        }
+    }
+
+    /**
+     * Forgets NPCs standing in a chunk that is about to unload, removing them so they are not saved with it.
+     */
+    void chunkUnloading(final ResourceKey worldKey, final Vector3i chunkPosition) {
+        final Iterator<PooledNpc> iterator = npcs.values().iterator();
+        while (iterator.hasNext()) {
+            final PooledNpc npc = iterator.next();
+            if (npc.handle.isIn(worldKey, chunkPosition)) {
+                npc.handle.remove();
+                iterator.remove();
+            }
+        }
+    }
+
+    void clear() {
+        npcs.values().forEach(npc -> npc.handle.remove());
+        npcs.clear();
+    }
+
+    private void evictEldest() {
+        final Iterator<PooledNpc> eldest = npcs.values().iterator();
+        eldest.next().handle.remove();
+        eldest.remove();
+    }
+
+    /**
+     * Spawns a frozen, invulnerable humanoid wearing the suspect's skin.
+     *
+     * @return the spawned NPC, or nothing if it could not be created or spawned
+     */
+    static Optional<Humanoid> spawnFrozen(final GameProfile profile, final ServerWorld world,
+            final Vector3d position) {
+        final Entity entity = world.createEntity(EntityTypes.HUMAN.get(), position);
+        if (!(entity instanceof Humanoid)) {
+            return Optional.empty();
+        }
+
+        final Humanoid humanoid = (Humanoid) entity;
+        humanoid.offer(Keys.GAME_PROFILE, profile);
+        humanoid.offer(Keys.IS_AI_ENABLED, false);
+        humanoid.offer(Keys.INVULNERABLE, true);
+        return world.spawnEntity(humanoid) ? Optional.of(humanoid) : Optional.empty();
+    }
+
+    private boolean spawn(final GameProfile profile, final ServerLocation spawn, final int slot) {
+        final Optional<Humanoid> humanoid = spawnFrozen(profile, spawn.world(), spawn.position().add(slotOffset(slot)));
+        if (!humanoid.isPresent()) {
+            logger.debug("Failed to spawn a pooled NPC for {}.", profile.name().orElse(profile.uniqueId().toString()));
+            return false;
+        }
+
+        npcs.put(profile.uniqueId(), new PooledNpc(NpcHandle.of(humanoid.get()), slot));
+        return true;
+    }
+
+    private int freeSlot() {
+        int slot = 0;
+        boolean taken = true;
+        while (taken) {
+            taken = false;
+            for (final PooledNpc npc : npcs.values()) {
+                if (npc.slot == slot) {
+                    taken = true;
+                    slot++;
+                    break;
+                }
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Slots fill successive rings around the spawn point, starting with the innermost.
+     */
+    private static Vector3d slotOffset(final int slot) {
+        final int ring = slot / SLOTS_PER_RING + 1;
+        final double angle = 2 * Math.PI * (slot % SLOTS_PER_RING) / SLOTS_PER_RING;
+        final double radius = ring * RING_SPACING;
+        return new Vector3d(Math.cos(angle) * radius, 0, Math.sin(angle) * radius);
+    }
+
+    private static final class PooledNpc {
+        private final NpcHandle handle;
+        private final int slot;
+
+        private PooledNpc(final NpcHandle handle, final int slot) {
+            this.handle = handle;
+            this.slot = slot;
+        }
+    }
+}
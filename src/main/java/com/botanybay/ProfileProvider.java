@@ -0,0 +1,25 @@
+package com.botanybay;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.profile.GameProfile;
+
+/**
+ * Source of complete game profiles, skin textures included.
+ */
+@FunctionalInterface
+interface ProfileProvider {
+
+    /**
+     * Looks up the profile with the given id, completing exceptionally if it cannot be found.
+     */
+    CompletableFuture<GameProfile> fetch(UUID uniqueId);
+
+    /**
+     * Provider backed by the server's game profile manager.
+     */
+    static ProfileProvider sponge() {
+        return uniqueId -> Sponge.server().gameProfileManager().profile(uniqueId);
+    }
+}
@@ -0,0 +1,99 @@
+package com.botanybay;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.profile.property.ProfileProperty;
+
+/**
+ * Fills in skin textures for suspect profiles before they are shown on an NPC.
+ *
+ * <p>Profiles of offline users often lack the {@code textures} property, which
+ * leaves the NPC with a blank skin. Such profiles are completed through a
+ * {@link ProfileProvider} off the main thread. Results are kept in a bounded,
+ * least-recently-used cache whose entries expire after a configurable time, so
+ * repeat trials of the same suspect do not fetch the profile again. Concurrent
+ * requests for one suspect share a single lookup. A failed lookup is not cached
+ * and resolves to the profile as given.</p>
+ *
+ * <p>Safe to call from any thread; returned futures may complete on any thread.</p>
+ */
+final class ProfileSkinResolver {
+
+    private final ProfileProvider provider;
+    private final Supplier<BotanyBayConfig.Npc> settings;
+    private final Map<UUID, Entry> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    ProfileSkinResolver(final ProfileProvider provider, final Supplier<BotanyBayConfig.Npc> settings) {
+        this.provider = provider;
+        this.settings = settings;
+    }
+
+    /**
+     * Returns the profile with its skin textures, fetching them if necessary.
+     */
+    CompletableFuture<GameProfile> resolve(final GameProfile profile) {
+        final UUID uniqueId = profile.uniqueId();
+        final BotanyBayConfig.Npc current = settings.get();
+        final long now = System.nanoTime();
+        final Entry entry;
+        synchronized (this) {
+            final Entry cached = cache.get(uniqueId);
+            if (cached != null && now - cached.createdAt < current.getProfileCacheTtlNanos()) {
+                return cached.profile;
+            }
+            entry = new Entry(now, hasSkin(profile)
+                    ? CompletableFuture.completedFuture(profile)
+                    : new CompletableFuture<>());
+            cache.put(uniqueId, entry);
+            trim(current.getProfileCacheSize());
+        }
+
+        if (!entry.profile.isDone()) {
+            provider.fetch(uniqueId).whenComplete((complete, error) -> {
+                if (error != null || complete == null) {
+                    this.forget(uniqueId, entry);
+                    entry.profile.complete(profile);
+                } else {
+                    entry.profile.complete(complete);
+                }
+            });
+        }
+        return entry.profile;
+    }
+
+    private synchronized void forget(final UUID uniqueId, final Entry entry) {
+        cache.remove(uniqueId, entry);
+    }
+
+    private void trim(final int maxEntries) {
+        final Iterator<Entry> eldest = cache.values().iterator();
+        while (cache.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    private static boolean hasSkin(final GameProfile profile) {
+        for (final ProfileProperty property : profile.properties()) {
+            if (ProfileProperty.TEXTURES.equals(property.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Entry {
+        private final long createdAt;
+        private final CompletableFuture<GameProfile> profile;
+
+        private Entry(final long createdAt, final CompletableFuture<GameProfile> profile) {
+            this.createdAt = createdAt;
+            this.profile = profile;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.botanybay;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keeps arenas busy by opening the next queued trial on its own once an arena
+ * frees up.
+ *
+ * <p>After an arena's trial ends the drain waits for a cooldown, then opens the
+ * next trial as long as enough spectators are gathered in the arena. While the
+ * queue is empty or the crowd is too small it re-checks on a slower interval.
+ * All waiting is done on the shared {@link TrialTimerWheel}, with at most one
+ * pending timeout per arena. Settings are read afresh on every check, so a
+ * configuration reload takes effect from the next check onwards.</p>
+ *
+ * <p>Must only be used from the main server thread.</p>
+ */
+final class QueueAutoDrain {
+
+    private final TrialTimerWheel wheel;
+    private final TrialDispatcher dispatcher;
+    private final ToIntFunction<Arena> crowd;
+    private final BiConsumer<Arena, Integer> onWaitingForCrowd;
+    private final Supplier<BotanyBayConfig.AutoDrain> settings;
+    private final Map<String, TrialTimerWheel.Timeout> pending = new HashMap<>();
+    private boolean enabled;
+
+    /**
+     * @param crowd counts the spectators currently gathered at an arena
+     * @param onWaitingForCrowd told how many more spectators an arena needs before it can start
+     */
+    QueueAutoDrain(final TrialTimerWheel wheel, final TrialDispatcher dispatcher, final ToIntFunction<Arena> crowd,
+            final BiConsumer<Arena, Integer> onWaitingForCrowd, final Supplier<BotanyBayConfig.AutoDrain> settings) {
+        this.wheel = wheel;
+        this.dispatcher = dispatcher;
+        this.crowd = crowd;
+        this.onWaitingForCrowd = onWaitingForCrowd;
+        this.settings = settings;
+    }
+
+    boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Turns the drain on and starts watching every idle arena straight away.
+     */
+    void enable() {
+        if (this.enabled) {
+            return;
+        }
+        this.enabled = true;
+        for (final Arena arena : this.dispatcher.usableArenas()) {
+            if (arena.isIdle()) {
+                this.schedule(arena, 1L);
+            }
+        }
+    }
+
+    void disable() {
+        this.enabled = false;
+        this.pending.values().forEach(TrialTimerWheel.Timeout::cancel);
+        this.pending.clear();
+    }
+
+    /**
+     * Called whenever an arena's trial has ended, for whatever reason.
+     */
+    void arenaFreed(final Arena arena) {
+        if (this.enabled) {
+            this.schedule(arena, this.settings.get().getCooldownTicks());
+        }
+    }
+
+    /**
+     * Called whenever an arena may have become usable, such as when its zone is defined.
+     * An arena that is already being watched keeps its current wait.
+     */
+    void arenaAdded(final Arena arena) {
+        if (this.enabled && arena.isIdle() && !this.pending.containsKey(key(arena))) {
+            this.schedule(arena, 1L);
+        }
+    }
+
+    private void schedule(final Arena arena, final long delayTicks) {
+        final TrialTimerWheel.Timeout previous = this.pending.put(key(arena),
+                this.wheel.schedule(delayTicks, () -> this.attempt(arena)));
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void attempt(final Arena arena) {
+        this.pending.remove(key(arena));
+        if (!this.enabled || !arena.isIdle() || !this.dispatcher.isUsable(arena)) {
+            return;
+        }
+
+        final BotanyBayConfig.AutoDrain current = this.settings.get();
+        if (!this.dispatcher.hasWaitingSuspects()) {
+            this.schedule(arena, current.getRecheckTicks());
+            return;
+        }
+
+        final int gathered = this.crowd.applyAsInt(arena);
+        if (gathered < current.getMinimumCrowd()) {
+            this.onWaitingForCrowd.accept(arena, current.getMinimumCrowd() - gathered);
+            this.schedule(arena, current.getRecheckTicks());
+            return;
+        }
+
+        this.dispatcher.dispatch(arena);
+    }
+
+    private static String key(final Arena arena) {
+        return arena.getName().toLowerCase(Locale.ROOT);
+    }
+}
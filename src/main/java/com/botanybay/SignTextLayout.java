@@ -0,0 +1,173 @@
+package com.botanybay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Lays text out onto a fixed number of sign lines, measured in pixels of the
+ * default Minecraft font.
+ *
+ * <p>Lines break at spaces where possible and only split a word that is wider
+ * than a whole line. Text that does not fit is cut at the end of the last line
+ * and marked with an ellipsis. Layouts are memoized by text in a small
+ * least-recently-used cache, since the same accusations are laid out over and
+ * over, and the cache is dropped whenever the configured line width changes.</p>
+ *
+ * <p>Must only be used from the main server thread.</p>
+ */
+final class SignTextLayout {
+
+    /**
+     * Widest line a sign can display, in font pixels.
+     */
+    static final int SIGN_LINE_WIDTH = 90;
+
+    private static final String ELLIPSIS = "...";
+    private static final int DEFAULT_GLYPH_WIDTH = 6;
+    // Advance of each printable ASCII glyph, including the one-pixel gap that follows it.
+    private static final byte[] ASCII_WIDTHS = new byte[128];
+
+    static {
+        Arrays.fill(ASCII_WIDTHS, (byte) DEFAULT_GLYPH_WIDTH);
+        setWidth(2, "!',.:;i|");
+        setWidth(3, "`l");
+        setWidth(4, " I[]t");
+        setWidth(5, "\"()*<>fk{}");
+        setWidth(7, "@~");
+    }
+
+    private final int maxLines;
+    private final IntSupplier lineWidth;
+    private final int cacheSize;
+    private final Map<String, List<String>> cache;
+    private int cachedWidth = -1;
+
+    /**
+     * @param lineWidth the widest a line may be, in font pixels, read on every call
+     */
+    SignTextLayout(final int maxLines, final IntSupplier lineWidth, final int cacheSize) {
+        this.maxLines = maxLines;
+        this.lineWidth = lineWidth;
+        this.cacheSize = cacheSize;
+        this.cache = new LinkedHashMap<String, List<String>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, List<String>> eldest) {
+                return size() > SignTextLayout.this.cacheSize;
+            }
+        };
+    }
+
+    static int width(final char c) {
+        return c < ASCII_WIDTHS.length ? ASCII_WIDTHS[c] : DEFAULT_GLYPH_WIDTH;
+    }
+
+    static int width(final CharSequence text) {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            width += width(text.charAt(i));
+        }
+        return width;
+    }
+
+    /**
+     * Returns the first line of the layout.
+     */
+    String fit(final String text) {
+        return this.layout(text).get(0);
+    }
+
+    /**
+     * Returns between one and {@code maxLines} lines, never empty.
+     */
+    List<String> layout(final String text) {
+        final int width = Math.max(width(ELLIPSIS) + DEFAULT_GLYPH_WIDTH, lineWidth.getAsInt());
+        if (width != cachedWidth) {
+            cache.clear();
+            cachedWidth = width;
+        }
+
+        final String key = text == null ? "" : text;
+        List<String> lines = cache.get(key);
+        if (lines == null) {
+            lines = Collections.unmodifiableList(this.wrap(key, width));
+            cache.put(key, lines);
+        }
+        return lines;
+    }
+
+    private List<String> wrap(final String text, final int maxWidth) {
+        final List<String> lines = new ArrayList<>(maxLines);
+        final int length = text.length();
+        int start = skipSpaces(text, 0);
+
+        while (start < length && lines.size() < maxLines) {
+            int used = 0;
+            int end = start;
+            int lastSpace = -1;
+            while (end < length) {
+                final char c = text.charAt(end);
+                if (used + width(c) > maxWidth) {
+                    break;
+                }
+                if (Character.isWhitespace(c)) {
+                    lastSpace = end;
+                }
+                used += width(c);
+                end++;
+            }
+
+            int next = end;
+            if (end < length && !Character.isWhitespace(text.charAt(end)) && lastSpace > start) {
+                // Break after the last whole word instead of inside the current one.
+                end = lastSpace;
+                next = lastSpace + 1;
+            }
+            lines.add(text.substring(start, trimEnd(text, start, end)));
+            start = skipSpaces(text, next);
+        }
+
+        if (lines.isEmpty()) {
+            lines.add("");
+        } else if (start < length) {
+            final int last = lines.size() - 1;
+            lines.set(last, ellipsize(lines.get(last), maxWidth));
+        }
+        return lines;
+    }
+
+    private static String ellipsize(final String line, final int maxWidth) {
+        final int budget = maxWidth - width(ELLIPSIS);
+        int end = 0;
+        int used = 0;
+        while (end < line.length() && used + width(line.charAt(end)) <= budget) {
+            used += width(line.charAt(end));
+            end++;
+        }
+        return line.substring(0, trimEnd(line, 0, end)) + ELLIPSIS;
+    }
+
+    private static int skipSpaces(final String text, int index) {
+        while (index < text.length() && Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int trimEnd(final String text, final int start, int end) {
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static void setWidth(final int width, final String glyphs) {
+        for (int i = 0; i < glyphs.length(); i++) {
+            ASCII_WIDTHS[glyphs.charAt(i)] = (byte) width;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.botanybay;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import net.kyori.adventure.text.Component;
+import org.slf4j.Logger;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.block.entity.Sign;
+import org.spongepowered.api.data.Keys;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * Writes text to bound signs, caching each sign's block entity and sending at
+ * most one update per sign per tick.
+ *
+ * <p>Writes are recorded as pending and flushed together on the next tick, so
+ * a ban wave that rewrites a sign hundreds of times only sends its final text.
+ * A sign is not rewritten if its text has not changed since the last flush.
+ * The resolved block entity is kept until the block is changed or its chunk
+ * unloads, and looked up again from its {@link StoredLocation} on next use.</p>
+ *
+ * <p>Must only be used from the main server thread.</p>
+ */
+final class SignWriter {
+
+    private final TrialTimerWheel wheel;
+    private final Logger logger;
+    private final Map<StoredLocation, Target> targets = new HashMap<>();
+    private final Map<BlockKey, Target> resolvedByPosition = new HashMap<>();
+    private final Set<Target> dirty = new LinkedHashSet<>();
+    private TrialTimerWheel.Timeout flush;
+
+    SignWriter(final TrialTimerWheel wheel, final Logger logger) {
+        this.wheel = wheel;
+        this.logger = logger;
+    }
+
+    /**
+     * Queues the lines to be written to the sign at the end of the tick.
+     *
+     * @return whether a sign currently exists at the location
+     */
+    boolean write(final StoredLocation location, final List<Component> lines) {
+        final Target target = targets.computeIfAbsent(location, Target::new);
+        target.pending = lines;
+        dirty.add(target);
+        if (flush == null) {
+            flush = wheel.schedule(1L, this::flush);
+        }
+        return this.resolve(target).isPresent();
+    }
+
+    /**
+     * Returns whether the sign holds, or is about to receive, the last lines written to it.
+     */
+    boolean hasWritten(final StoredLocation location) {
+        final Target target = targets.get(location);
+        return target != null && (target.pending != null || target.written != null);
+    }
+
+    /**
+     * Drops everything known about a sign that is no longer bound.
+     */
+    void forget(final StoredLocation location) {
+        final Target target = targets.remove(location);
+        if (target != null) {
+            this.invalidate(target);
+            dirty.remove(target);
+        }
+    }
+
+    void blockChanged(final ResourceKey worldKey, final Vector3i position) {
+        final Target target = resolvedByPosition.get(new BlockKey(worldKey, position));
+        if (target != null) {
+            this.invalidate(target);
+        }
+    }
+
+    void chunkUnloading(final ResourceKey worldKey, final Vector3i chunkPosition) {
+        if (resolvedByPosition.isEmpty()) {
+            return;
+        }
+        for (final Target target : new ArrayList<>(resolvedByPosition.values())) {
+            if (target.worldKey.equals(worldKey) && target.chunkPosition.equals(chunkPosition)) {
+                this.invalidate(target);
+            }
+        }
+    }
+
+    private void flush() {
+        flush = null;
+        for (final Target target : dirty) {
+            if (target.pending == null || target.pending.equals(target.written)) {
+                continue;
+            }
+            final Optional<Sign> sign = this.resolve(target);
+            if (sign.isPresent()) {
+                sign.get().offer(Keys.SIGN_LINES, target.pending);
+                target.written = target.pending;
+                target.reportedMissing = false;
+            } else if (!target.reportedMissing) {
+                target.reportedMissing = true;
+                final Vector3i position = target.location.blockPosition();
+                logger.warn("Configured Botany Bay sign is missing at {}, {}, {}",
+                        position.x(), position.y(), position.z());
+            }
+            target.pending = null;
+        }
+        dirty.clear();
+    }
+
+    private Optional<Sign> resolve(final Target target) {
+        if (target.sign != null && target.sign.isValid()) {
+            return Optional.of(target.sign);
+        }
+        this.invalidate(target);
+
+        final Optional<ServerLocation> location = target.location.resolve();
+        if (!location.isPresent()) {
+            return Optional.empty();
+        }
+        final Optional<Sign> sign = location.get().blockEntity(Sign.class);
+        if (sign.isPresent()) {
+            target.sign = sign.get();
+            target.worldKey = location.get().worldKey();
+            target.chunkPosition = location.get().chunkPosition();
+            resolvedByPosition.put(new BlockKey(target.worldKey, target.location.blockPosition()), target);
+        }
+        return sign;
+    }
+
+    private void invalidate(final Target target) {
+        if (target.sign == null) {
+            return;
+        }
+        resolvedByPosition.remove(new BlockKey(target.worldKey, target.location.blockPosition()), target);
+        target.sign = null;
+        target.worldKey = null;
+        target.chunkPosition = null;
+        // The block may come back as a fresh sign, so the next write must not be skipped.
+        target.written = null;
+    }
+
+    /**
+     * A block position qualified by its world, since bound signs may share coordinates across worlds.
+     */
+    private static final class BlockKey {
+        private final ResourceKey worldKey;
+        private final Vector3i position;
+
+        private BlockKey(final ResourceKey worldKey, final Vector3i position) {
+            this.worldKey = worldKey;
+            this.position = position;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof BlockKey)) {
+                return false;
+            }
+            final BlockKey that = (BlockKey) other;
+            return worldKey.equals(that.worldKey) && position.equals(that.position);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(worldKey, position);
+        }
+    }
+
+    private static final class Target {
+        private final StoredLocation location;
+        private Sign sign;
+        private ResourceKey worldKey;
+        private Vector3i chunkPosition;
+        private List<Component> pending;
+        private List<Component> written;
+        private boolean reportedMissing;
+
+        private Target(final StoredLocation location) {
+            this.location = location;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.botanybay;
+
+import java.util.Objects;
+import java.util.Optional;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * A position in a world that need not be loaded.
+ *
+ * <p>Only the world's key and the coordinates are kept. The world is looked
+ * up by its key among the loaded worlds each time the location is resolved, so
+ * restoring an arena never forces its world to load and a location outlives
+ * its world being unloaded and loaded again.</p>
+ */
+final class StoredLocation {
+
+    private final ResourceKey worldKey;
+    private final double x;
+    private final double y;
+    private final double z;
+
+    StoredLocation(final ResourceKey worldKey, final double x, final double y, final double z) {
+        this.worldKey = worldKey;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    static StoredLocation of(final ServerLocation location) {
+        final Vector3d position = location.position();
+        return new StoredLocation(location.worldKey(), position.x(), position.y(), position.z());
+    }
+
+    ResourceKey getWorldKey() {
+        return worldKey;
+    }
+
+    double getX() {
+        return x;
+    }
+
+    double getY() {
+        return y;
+    }
+
+    double getZ() {
+        return z;
+    }
+
+    Vector3i blockPosition() {
+        return new Vector3i(Math.floor(x), Math.floor(y), Math.floor(z));
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof StoredLocation)) {
+            return false;
+        }
+        final StoredLocation that = (StoredLocation) other;
+        return worldKey.equals(that.worldKey) && Double.compare(x, that.x) == 0
+                && Double.compare(y, that.y) == 0 && Double.compare(z, that.z) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(worldKey, x, y, z);
+    }
+
+    /**
+     * Returns the location in its world, or nothing while that world is not loaded.
+     */
+    Optional<ServerLocation> resolve() {
+        return Sponge.server().worldManager().world(worldKey).map(world -> ServerLocation.of(world, x, y, z));
+    }
+}
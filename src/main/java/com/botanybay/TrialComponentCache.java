@@ -0,0 +1,87 @@
+package com.botanybay;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * Caches the chat components shown during a Botany Bay trial.
+ *
+ * <p>Adventure components are immutable, so the clickable option bar is built
+ * once and then shared. Vote summaries are rebuilt only when the
+ * trial's tally differs from the one the cached summary was rendered from.</p>
+ */
+final class TrialComponentCache {
+
+    private static final Component SEPARATOR = Component.text(" | ", NamedTextColor.GRAY);
+    private static final Component VOTE_OPTIONS = renderVoteOptions();
+
+    private final Map<TrialSession, RenderedSummary> summaries = new ConcurrentHashMap<>();
+
+    Component voteOptions() {
+        return VOTE_OPTIONS;
+    }
+
+    Component voteSummary(final TrialSession session) {
+        final int execute = session.getVoteCount(PunishmentOption.EXECUTE);
+        final int pillory = session.getVoteCount(PunishmentOption.PILLORY);
+        final int release = session.getVoteCount(PunishmentOption.RELEASE);
+
+        final RenderedSummary cached = this.summaries.get(session);
+        if (cached != null && cached.matches(execute, pillory, release)) {
+            return cached.component;
+        }
+
+        final RenderedSummary rendered = new RenderedSummary(execute, pillory, release);
+        this.summaries.put(session, rendered);
+        return rendered.component;
+    }
+
+    /**
+     * Drops the cached summary of a trial that has ended.
+     */
+    void forget(final TrialSession session) {
+        this.summaries.remove(session);
+    }
+
+    private static Component renderVoteOptions() {
+        return Component.join(JoinConfiguration.separator(SEPARATOR),
+                renderVoteOption(PunishmentOption.EXECUTE),
+                renderVoteOption(PunishmentOption.PILLORY),
+                renderVoteOption(PunishmentOption.RELEASE));
+    }
+
+    private static Component renderVoteOption(final PunishmentOption option) {
+        return option.displayName()
+                .clickEvent(ClickEvent.runCommand("/botanybay vote " + option.getId()))
+                .hoverEvent(HoverEvent.showText(Component.text(option.getDescription())));
+    }
+
+    private static final class RenderedSummary {
+        private final int execute;
+        private final int pillory;
+        private final int release;
+        private final Component component;
+
+        private RenderedSummary(final int execute, final int pillory, final int release) {
+            this.execute = execute;
+            this.pillory = pillory;
+            this.release = release;
+            this.component = Component.join(JoinConfiguration.separator(SEPARATOR),
+                    Component.text("Execution: ", NamedTextColor.DARK_RED)
+                            .append(Component.text(execute, NamedTextColor.WHITE)),
+                    Component.text("Pillory: ", NamedTextColor.GOLD)
+                            .append(Component.text(pillory, NamedTextColor.WHITE)),
+                    Component.text("Release: ", NamedTextColor.GREEN)
+                            .append(Component.text(release, NamedTextColor.WHITE)));
+        }
+
+        private boolean matches(final int execute, final int pillory, final int release) {
+            return this.execute == execute && this.pillory == pillory && this.release == release;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.botanybay;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Schedules the conclusion of a trial and the countdown reminders leading up
+ * to it on the shared {@link TrialTimerWheel}.
+ *
+ * <p>Extending the vote window moves the session deadline and re-arms every
+ * reminder that now lies in the future, so a reminder that already fired will
+ * fire again once the clock counts back down to it.</p>
+ */
+final class TrialCountdown {
+
+    private static final int[] REMINDER_SECONDS = {60, 30, 10, 5};
+
+    private final TrialTimerWheel wheel;
+    private final TrialSession session;
+    private final IntConsumer onReminder;
+    private final Runnable onExpire;
+    private final TrialTimerWheel.Timeout[] reminders = new TrialTimerWheel.Timeout[REMINDER_SECONDS.length];
+    private TrialTimerWheel.Timeout conclusion;
+
+    /**
+     * @param onReminder receives the number of seconds left whenever a reminder is due
+     * @param onExpire runs once the session deadline is reached
+     */
+    TrialCountdown(final TrialTimerWheel wheel, final TrialSession session, final IntConsumer onReminder,
+            final Runnable onExpire) {
+        this.wheel = wheel;
+        this.session = session;
+        this.onReminder = onReminder;
+        this.onExpire = onExpire;
+    }
+
+    void start() {
+        this.cancel();
+        final long remaining = this.session.remainingTicks(this.wheel.currentTick());
+        this.conclusion = this.wheel.schedule(remaining, this.onExpire);
+        for (int i = 0; i < REMINDER_SECONDS.length; i++) {
+            final int seconds = REMINDER_SECONDS[i];
+            final long delay = remaining - (long) seconds * TrialTimerWheel.TICKS_PER_SECOND;
+            if (delay > 0L) {
+                this.reminders[i] = this.wheel.schedule(delay, () -> this.onReminder.accept(seconds));
+            }
+        }
+    }
+
+    /**
+     * Pushes the deadline back by the given number of ticks and re-arms the timers.
+     */
+    void extend(final long ticks) {
+        this.session.extendDeadline(ticks);
+        this.start();
+    }
+
+    void cancel() {
+        if (this.conclusion != null) {
+            this.conclusion.cancel();
+            this.conclusion = null;
+        }
+        for (int i = 0; i < this.reminders.length; i++) {
+            if (this.reminders[i] != null) {
+                this.reminders[i].cancel();
+                this.reminders[i] = null;
+            }
+        }
+    }
+}
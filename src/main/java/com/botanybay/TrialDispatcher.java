@@ -0,0 +1,163 @@
+package com.botanybay;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Owns the Botany Bay arenas and hands queued suspects to them as they free up.
+ *
+ * <p>An arena can host trials once a voting zone with its name exists. While no
+ * zones are defined at all, the default arena accepts trials on its own so a
+ * server without arenas behaves like a single open courtroom.</p>
+ *
+ * <p>Must only be used from the main server thread.</p>
+ */
+final class TrialDispatcher {
+
+    private final String defaultArenaName;
+    private final VoteZoneRegistry zoneRegistry;
+    private final TrialQueue trialQueue;
+    private final TrialQueueJournal queueJournal;
+    private final BiConsumer<Arena, QueuedSuspect> launcher;
+    private final Map<String, Arena> arenas = new LinkedHashMap<>();
+
+    /**
+     * @param launcher opens a trial for the suspect in the given idle arena
+     */
+    TrialDispatcher(final String defaultArenaName, final VoteZoneRegistry zoneRegistry, final TrialQueue trialQueue,
+            final TrialQueueJournal queueJournal, final BiConsumer<Arena, QueuedSuspect> launcher) {
+        this.defaultArenaName = defaultArenaName;
+        this.zoneRegistry = zoneRegistry;
+        this.trialQueue = trialQueue;
+        this.queueJournal = queueJournal;
+        this.launcher = launcher;
+    }
+
+    Arena defaultArena() {
+        return this.arena(this.defaultArenaName);
+    }
+
+    /**
+     * Returns the arena with the given name, creating it if necessary.
+     */
+    Arena arena(final String name) {
+        return this.arenas.computeIfAbsent(normalize(name), key -> new Arena(name));
+    }
+
+    Optional<Arena> get(final String name) {
+        return Optional.ofNullable(this.arenas.get(normalize(name)));
+    }
+
+    Collection<Arena> arenas() {
+        return Collections.unmodifiableCollection(this.arenas.values());
+    }
+
+    /**
+     * Returns whether the arena may host a trial right now, ignoring whether one is already running.
+     */
+    boolean isUsable(final Arena arena) {
+        if (this.zoneRegistry.isEmpty()) {
+            return normalize(arena.getName()).equals(normalize(this.defaultArenaName));
+        }
+        return this.zoneRegistry.get(arena.getName()).isPresent();
+    }
+
+    List<Arena> running() {
+        final List<Arena> running = new ArrayList<>();
+        for (final Arena arena : this.arenas.values()) {
+            if (!arena.isIdle()) {
+                running.add(arena);
+            }
+        }
+        return running;
+    }
+
+    Optional<Arena> arenaOf(final UUID suspectId) {
+        for (final Arena arena : this.arenas.values()) {
+            final Optional<TrialSession> session = arena.getSession();
+            if (session.isPresent() && session.get().getSuspectId().equals(suspectId)) {
+                return Optional.of(arena);
+            }
+        }
+        return Optional.empty();
+    }
+
+    boolean isOnTrial(final UUID suspectId) {
+        return this.arenaOf(suspectId).isPresent();
+    }
+
+    /**
+     * Returns every arena that could host a trial, busy or not.
+     */
+    List<Arena> usableArenas() {
+        if (this.zoneRegistry.isEmpty()) {
+            return Collections.singletonList(this.defaultArena());
+        }
+        final List<Arena> usable = new ArrayList<>(this.zoneRegistry.zones().size());
+        for (final VoteZone zone : this.zoneRegistry.zones()) {
+            usable.add(this.arena(zone.getName()));
+        }
+        return usable;
+    }
+
+    /**
+     * Returns the first arena that could host a trial and is not hosting one.
+     */
+    Optional<Arena> idleArena() {
+        for (final Arena arena : this.usableArenas()) {
+            if (arena.isIdle()) {
+                return Optional.of(arena);
+            }
+        }
+        return Optional.empty();
+    }
+
+    boolean hasWaitingSuspects() {
+        return !this.trialQueue.isEmpty();
+    }
+
+    /**
+     * Opens a trial for the suspect at the front of the queue in the given arena.
+     *
+     * @return {@code false} if the arena is busy or unusable, or nobody is waiting
+     */
+    boolean dispatch(final Arena arena) {
+        if (!arena.isIdle() || !this.isUsable(arena)) {
+            return false;
+        }
+        final Optional<QueuedSuspect> next = this.trialQueue.poll();
+        if (!next.isPresent()) {
+            return false;
+        }
+        this.queueJournal.recordDequeue(next.get().getSuspectId());
+        this.launcher.accept(arena, next.get());
+        return true;
+    }
+
+    /**
+     * Fills every idle arena from the front of the queue.
+     *
+     * @return the number of trials opened
+     */
+    int dispatchAll() {
+        int started = 0;
+        Optional<Arena> idle = this.idleArena();
+        while (idle.isPresent() && this.dispatch(idle.get())) {
+            started++;
+            idle = this.idleArena();
+        }
+        return started;
+    }
+
+    private static String normalize(final String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
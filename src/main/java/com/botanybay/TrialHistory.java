@@ -0,0 +1,408 @@
+package com.botanybay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+
+/**
+ * Append-only log of every finished Botany Bay trial, kept for appeals and
+ * moderation review.
+ *
+ * <p>Each trial is appended as one checksummed record, framed the same way as
+ * the {@link TrialQueueJournal}. Only a small index entry per trial is held in
+ * memory: the entries are kept in order of when the trial ended, once overall,
+ * once per suspect and once per verdict, so a query binary-searches the most
+ * selective list for its date range and reads just the records it returns
+ * from disk. The index is rebuilt from the log on load.</p>
+ *
+ * <p>Writes and queries all run on one dedicated thread, so the main thread
+ * never touches the disk and queries always see every trial recorded before
+ * them.</p>
+ */
+final class TrialHistory {
+
+    private static final String FILE_NAME = "trial-history.log";
+    private static final byte RECORD_VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private final Path historyFile;
+    private final Logger logger;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "BotanyBay-TrialHistory");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only touched from the worker thread once load() has returned.
+    private final List<IndexEntry> chronological = new ArrayList<>();
+    private final Map<UUID, List<IndexEntry>> bySuspect = new HashMap<>();
+    private final Map<PunishmentOption, List<IndexEntry>> byVerdict = new EnumMap<>(PunishmentOption.class);
+    private FileChannel channel;
+
+    TrialHistory(final Path directory, final Logger logger) {
+        this.historyFile = directory.resolve(FILE_NAME);
+        this.logger = logger;
+    }
+
+    /**
+     * Rebuilds the index from the log and opens it for appending.
+     *
+     * @return the number of trials on record
+     */
+    int load() throws IOException {
+        Files.createDirectories(this.historyFile.getParent());
+
+        this.chronological.clear();
+        this.bySuspect.clear();
+        this.byVerdict.clear();
+        this.channel = FileChannel.open(this.historyFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            final long validLength = this.replay();
+            if (validLength < this.channel.size()) {
+                this.logger.warn("Discarding {} bytes of incomplete Botany Bay trial history data.",
+                        this.channel.size() - validLength);
+                this.channel.truncate(validLength);
+                this.channel.force(true);
+            }
+            this.channel.position(validLength);
+        } catch (final IOException ex) {
+            // Leave the unreadable history untouched rather than appending over its head.
+            this.channel.close();
+            this.channel = null;
+            throw ex;
+        }
+        return this.chronological.size();
+    }
+
+    void record(final TrialRecord record) {
+        this.worker.execute(() -> this.append(record));
+    }
+
+    /**
+     * Looks up finished trials, newest first.
+     */
+    CompletableFuture<List<TrialRecord>> find(final Query query) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.search(query);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, this.worker);
+    }
+
+    /**
+     * Finishes outstanding writes and releases the log file.
+     */
+    void close() {
+        this.worker.shutdown();
+        try {
+            if (!this.worker.awaitTermination(10, TimeUnit.SECONDS)) {
+                this.logger.warn("Timed out waiting for the Botany Bay trial history to flush.");
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+            } catch (final IOException ex) {
+                this.logger.warn("Failed to close the Botany Bay trial history: {}", ex.getMessage());
+            }
+            this.channel = null;
+        }
+    }
+
+    /**
+     * Indexes every intact record.
+     *
+     * <p>Only a torn record at the very end of the log, left by a crash while
+     * appending, is reported as invalid so it can be truncated. A damaged
+     * record followed by further records is skipped with a warning instead, so
+     * one bad record never costs the trials recorded after it. If damage leaves
+     * the rest of the log unreadable the load fails without truncating, so the
+     * file can be recovered by hand.</p>
+     *
+     * @return the length of the log up to the end of the last intact record
+     */
+    private long replay() throws IOException {
+        final long size = this.channel.size();
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        final CRC32 crc = new CRC32();
+        long position = 0L;
+        int damaged = 0;
+
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            this.channel.read(header, position);
+            header.flip();
+            final int length = header.getInt();
+            final int checksum = header.getInt();
+            if (length <= 0 || position + HEADER_BYTES + length > size) {
+                break;
+            }
+
+            final ByteBuffer payload = ByteBuffer.allocate(length);
+            this.channel.read(payload, position + HEADER_BYTES);
+            crc.reset();
+            crc.update(payload.array(), 0, length);
+            if ((int) crc.getValue() != checksum) {
+                if (position + HEADER_BYTES + length == size) {
+                    break;
+                }
+                this.logger.warn("Skipping a damaged Botany Bay trial history record at offset {}.", position);
+                damaged++;
+                position += HEADER_BYTES + length;
+                continue;
+            }
+
+            this.index(new IndexEntry(position, length, decode(payload.array())));
+            position += HEADER_BYTES + length;
+        }
+
+        if (damaged > 0 && position < size) {
+            throw new IOException("The Botany Bay trial history is damaged from offset " + position
+                    + " onwards; repair or move " + this.historyFile + " aside");
+        }
+        return position;
+    }
+
+    private void append(final TrialRecord record) {
+        if (this.channel == null) {
+            return;
+        }
+
+        final byte[] payload = encode(record);
+        try {
+            final long position = this.channel.position();
+            this.channel.write(frame(payload));
+            this.channel.force(false);
+            this.index(new IndexEntry(position, payload.length, record));
+        } catch (final IOException ex) {
+            this.logger.error("Failed to write to the Botany Bay trial history: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private void index(final IndexEntry entry) {
+        insert(this.chronological, entry);
+        insert(this.bySuspect.computeIfAbsent(entry.suspectId, id -> new ArrayList<>()), entry);
+        if (entry.verdict != null) {
+            insert(this.byVerdict.computeIfAbsent(entry.verdict, verdict -> new ArrayList<>()), entry);
+        }
+    }
+
+    private List<TrialRecord> search(final Query query) throws IOException {
+        if (this.channel == null) {
+            throw new IOException("The trial history could not be loaded");
+        }
+
+        final List<IndexEntry> candidates;
+        if (query.suspectId != null) {
+            candidates = this.bySuspect.getOrDefault(query.suspectId, Collections.emptyList());
+        } else if (query.verdict != null) {
+            candidates = this.byVerdict.getOrDefault(query.verdict, Collections.emptyList());
+        } else {
+            candidates = this.chronological;
+        }
+
+        final int first = firstEndedAtOrAfter(candidates, query.fromMillis);
+        final int last = firstEndedAtOrAfter(candidates, query.toMillis + 1) - 1;
+        final List<TrialRecord> found = new ArrayList<>(Math.min(query.limit, Math.max(0, last - first + 1)));
+        for (int i = last; i >= first && found.size() < query.limit; i--) {
+            final IndexEntry entry = candidates.get(i);
+            if (query.matches(entry)) {
+                found.add(this.read(entry));
+            }
+        }
+        return found;
+    }
+
+    private TrialRecord read(final IndexEntry entry) throws IOException {
+        final ByteBuffer payload = ByteBuffer.allocate(entry.length);
+        long position = entry.offset + HEADER_BYTES;
+        while (payload.hasRemaining()) {
+            final int read = this.channel.read(payload, position);
+            if (read < 0) {
+                throw new IOException("Botany Bay trial history ends inside a record");
+            }
+            position += read;
+        }
+        return decode(payload.array());
+    }
+
+    /**
+     * Inserts in order of when the trial ended. Trials normally end in the
+     * order they are appended, so this is almost always a plain append.
+     */
+    private static void insert(final List<IndexEntry> entries, final IndexEntry entry) {
+        if (entries.isEmpty() || entries.get(entries.size() - 1).endedAtMillis <= entry.endedAtMillis) {
+            entries.add(entry);
+        } else {
+            entries.add(firstEndedAtOrAfter(entries, entry.endedAtMillis + 1), entry);
+        }
+    }
+
+    private static int firstEndedAtOrAfter(final List<IndexEntry> entries, final long millis) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (entries.get(mid).endedAtMillis < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static ByteBuffer frame(final byte[] payload) {
+        final CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static byte[] encode(final TrialRecord record) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(128 + record.getTotalVotes() * 20);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(RECORD_VERSION);
+            out.writeLong(record.getSuspectId().getMostSignificantBits());
+            out.writeLong(record.getSuspectId().getLeastSignificantBits());
+            out.writeLong(record.getStartedAt().toEpochMilli());
+            out.writeLong(record.getEndedAt().toEpochMilli());
+            out.writeUTF(record.getVerdict().map(PunishmentOption::getId).orElse(""));
+            out.writeUTF(record.getSuspectName());
+            out.writeUTF(record.getAccusation());
+            out.writeUTF(record.getArenaName().orElse(""));
+            out.writeInt(record.getTotalVotes());
+            for (final Map.Entry<UUID, PunishmentOption> ballot : record.getBallots().entrySet()) {
+                out.writeLong(ballot.getKey().getMostSignificantBits());
+                out.writeLong(ballot.getKey().getLeastSignificantBits());
+                out.writeUTF(ballot.getValue().getId());
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException("Failed to encode trial record", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static TrialRecord decode(final byte[] payload) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        final byte version = in.readByte();
+        if (version != RECORD_VERSION) {
+            throw new IOException("Unknown Botany Bay trial history record version " + version);
+        }
+
+        final UUID suspectId = new UUID(in.readLong(), in.readLong());
+        final Instant startedAt = Instant.ofEpochMilli(in.readLong());
+        final Instant endedAt = Instant.ofEpochMilli(in.readLong());
+        final String verdict = in.readUTF();
+        final String name = in.readUTF();
+        final String accusation = in.readUTF();
+        final String arena = in.readUTF();
+        final int voters = in.readInt();
+        final Map<UUID, PunishmentOption> ballots = new LinkedHashMap<>(Math.max(16, voters * 2));
+        for (int i = 0; i < voters; i++) {
+            ballots.put(new UUID(in.readLong(), in.readLong()), option(in.readUTF()));
+        }
+        return new TrialRecord(suspectId, name, accusation, arena.isEmpty() ? null : arena, startedAt, endedAt,
+                verdict.isEmpty() ? null : option(verdict), ballots);
+    }
+
+    private static PunishmentOption option(final String id) throws IOException {
+        for (final PunishmentOption option : PunishmentOption.values()) {
+            if (option.getId().equals(id)) {
+                return option;
+            }
+        }
+        throw new IOException("Unknown punishment '" + id + "' in the Botany Bay trial history");
+    }
+
+    /**
+     * Filters for {@link #find(Query)}. Every criterion left unset matches all trials.
+     */
+    static final class Query {
+        private UUID suspectId;
+        private PunishmentOption verdict;
+        private long fromMillis = Long.MIN_VALUE;
+        private long toMillis = Long.MAX_VALUE - 1;
+        private int limit = Integer.MAX_VALUE;
+
+        Query suspect(final UUID suspectId) {
+            this.suspectId = suspectId;
+            return this;
+        }
+
+        Query verdict(final PunishmentOption verdict) {
+            this.verdict = verdict;
+            return this;
+        }
+
+        /**
+         * Keeps trials that ended between the two instants, inclusive.
+         */
+        Query endedBetween(final Instant from, final Instant to) {
+            this.fromMillis = from.toEpochMilli();
+            this.toMillis = Math.min(to.toEpochMilli(), Long.MAX_VALUE - 1);
+            return this;
+        }
+
+        Query limit(final int limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        private boolean matches(final IndexEntry entry) {
+            return (suspectId == null || suspectId.equals(entry.suspectId))
+                    && (verdict == null || verdict == entry.verdict);
+        }
+    }
+
+    private static final class IndexEntry {
+        private final long offset;
+        private final int length;
+        private final long endedAtMillis;
+        private final UUID suspectId;
+        private final PunishmentOption verdict;
+
+        private IndexEntry(final long offset, final int length, final TrialRecord record) {
+            this.offset = offset;
+            this.length = length;
+            this.endedAtMillis = record.getEndedAt().toEpochMilli();
+            this.suspectId = record.getSuspectId();
+            this.verdict = record.getVerdict().orElse(null);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.botanybay;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.scoreboard.Scoreboard;
+import org.spongepowered.api.scoreboard.criteria.Criteria;
+import org.spongepowered.api.scoreboard.displayslot.DisplaySlots;
+import org.spongepowered.api.scoreboard.objective.Objective;
+
+/**
+ * Live heads-up display for a running trial: a boss bar counting down the
+ * remaining time and a sidebar showing the vote tally.
+ *
+ * <p>The display is refreshed on a fixed interval by the shared
+ * {@link TrialTimerWheel}, and each refresh only pushes
+ * the parts whose values actually changed. However fast votes arrive, viewers
+ * receive at most one sidebar update per interval and one boss bar update per
+ * second of countdown.</p>
+ *
+ * <p>Each viewer's previous scoreboard is remembered and handed back when they
+ * stop viewing, so scoreboards set by other plugins survive the trial.</p>
+ */
+final class TrialHud {
+
+    private static final String OBJECTIVE_NAME = "botanybay";
+
+    private final TrialTimerWheel wheel;
+    private final TrialSession session;
+    private final long refreshTicks;
+    private final BossBar bossBar;
+    private final Scoreboard scoreboard;
+    private final Objective objective;
+    private final Map<UUID, Scoreboard> previousScoreboards = new HashMap<>();
+    private final int[] shownCounts = new int[PunishmentOption.values().length];
+    private long shownSeconds = -1L;
+    private TrialTimerWheel.Timeout refreshTimeout;
+
+    TrialHud(final TrialTimerWheel wheel, final TrialSession session, final long refreshTicks) {
+        this.wheel = wheel;
+        this.session = session;
+        this.refreshTicks = refreshTicks;
+        this.bossBar = BossBar.bossBar(Component.text("Botany Bay", NamedTextColor.GOLD), 1.0F,
+                BossBar.Color.YELLOW, BossBar.Overlay.NOTCHED_10);
+        this.objective = Objective.builder()
+                .name(OBJECTIVE_NAME)
+                .displayName(Component.text("Botany Bay", NamedTextColor.GOLD))
+                .criterion(Criteria.DUMMY)
+                .build();
+        this.scoreboard = Scoreboard.builder().build();
+        this.scoreboard.addObjective(this.objective);
+        this.scoreboard.updateDisplaySlot(this.objective, DisplaySlots.SIDEBAR);
+        Arrays.fill(this.shownCounts, -1);
+    }
+
+    void show(final Iterable<ServerPlayer> viewers) {
+        this.refresh();
+        viewers.forEach(this::addViewer);
+        this.refreshTimeout = this.wheel.scheduleRepeating(this.refreshTicks, this.refreshTicks, this::refresh);
+    }
+
+    void addViewer(final ServerPlayer player) {
+        player.showBossBar(this.bossBar);
+        if (player.scoreboard() != this.scoreboard) {
+            this.previousScoreboards.put(player.uniqueId(), player.scoreboard());
+            player.setScoreboard(this.scoreboard);
+        }
+    }
+
+    void removeViewer(final ServerPlayer player) {
+        player.hideBossBar(this.bossBar);
+        final Scoreboard previous = this.previousScoreboards.remove(player.uniqueId());
+        if (player.scoreboard() == this.scoreboard) {
+            if (previous != null) {
+                player.setScoreboard(previous);
+            } else {
+                Sponge.server().serverScoreboard().ifPresent(player::setScoreboard);
+            }
+        }
+    }
+
+    void hide() {
+        if (this.refreshTimeout != null) {
+            this.refreshTimeout.cancel();
+            this.refreshTimeout = null;
+        }
+        Sponge.server().onlinePlayers().forEach(this::removeViewer);
+        this.previousScoreboards.clear();
+    }
+
+    private void refresh() {
+        final long remainingTicks = this.session.remainingTicks(this.wheel.currentTick());
+        final long remainingSeconds = (remainingTicks + TrialTimerWheel.TICKS_PER_SECOND - 1)
+                / TrialTimerWheel.TICKS_PER_SECOND;
+        if (remainingSeconds != this.shownSeconds) {
+            this.shownSeconds = remainingSeconds;
+            this.bossBar.name(Component.text()
+                    .append(Component.text("Trial of ", NamedTextColor.GOLD))
+                    .append(Component.text(this.session.getSuspectName(), NamedTextColor.RED))
+                    .append(Component.text(String.format(Locale.ROOT, "  %02d:%02d",
+                            remainingSeconds / 60, remainingSeconds % 60), NamedTextColor.WHITE))
+                    .build());
+            final long totalTicks = this.session.getDurationTicks();
+            this.bossBar.progress(totalTicks <= 0L ? 0.0F
+                    : Math.min(1.0F, (float) remainingTicks / totalTicks));
+        }
+
+        for (final PunishmentOption option : PunishmentOption.values()) {
+            final int count = this.session.getVoteCount(option);
+            if (count != this.shownCounts[option.ordinal()]) {
+                this.shownCounts[option.ordinal()] = count;
+                this.objective.findOrCreateScore(option.displayName()).setScore(count);
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.botanybay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * FIFO queue of suspects awaiting trial, indexed by suspect id.
+ *
+ * <p>Entries occupy consecutive slots in arrival order. Removing a suspect
+ * leaves a hole in its slot instead of shifting its neighbours, and a Fenwick
+ * tree over slot occupancy answers "how many suspects are ahead of this one"
+ * without walking the queue. Holes are squeezed out whenever the slot array has
+ * to grow, which keeps appends amortised constant time.</p>
+ *
+ * <p>Membership checks and lookups by id are O(1); removal by id, queue
+ * position and paging are O(log n). Not thread-safe.</p>
+ */
+final class TrialQueue {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<UUID, Integer> slotsById = new HashMap<>();
+    private QueuedSuspect[] slots = new QueuedSuspect[INITIAL_CAPACITY];
+    private int[] occupancy = new int[INITIAL_CAPACITY + 1];
+    private int head;
+    private int tail;
+
+    int size() {
+        return this.slotsById.size();
+    }
+
+    boolean isEmpty() {
+        return this.slotsById.isEmpty();
+    }
+
+    boolean contains(final UUID suspectId) {
+        return this.slotsById.containsKey(suspectId);
+    }
+
+    Optional<QueuedSuspect> get(final UUID suspectId) {
+        final Integer slot = this.slotsById.get(suspectId);
+        return slot == null ? Optional.empty() : Optional.of(this.slots[slot]);
+    }
+
+    /**
+     * Appends a suspect to the back of the queue.
+     *
+     * @return {@code false} if the suspect is already queued
+     */
+    boolean add(final QueuedSuspect suspect) {
+        if (this.slotsById.containsKey(suspect.getSuspectId())) {
+            return false;
+        }
+        if (this.tail == this.slots.length) {
+            this.compact();
+        }
+
+        this.slots[this.tail] = suspect;
+        this.adjustOccupancy(this.tail, 1);
+        this.slotsById.put(suspect.getSuspectId(), this.tail);
+        this.tail++;
+        return true;
+    }
+
+    /**
+     * Removes and returns the suspect at the front of the queue.
+     */
+    Optional<QueuedSuspect> poll() {
+        this.skipHoles();
+        if (this.head == this.tail) {
+            return Optional.empty();
+        }
+
+        final QueuedSuspect suspect = this.slots[this.head];
+        this.vacate(this.head);
+        this.head++;
+        return Optional.of(suspect);
+    }
+
+    Optional<QueuedSuspect> peek() {
+        this.skipHoles();
+        return this.head == this.tail ? Optional.empty() : Optional.of(this.slots[this.head]);
+    }
+
+    /**
+     * Removes a suspect wherever they are in the queue.
+     */
+    Optional<QueuedSuspect> remove(final UUID suspectId) {
+        final Integer slot = this.slotsById.get(suspectId);
+        if (slot == null) {
+            return Optional.empty();
+        }
+
+        final QueuedSuspect suspect = this.slots[slot];
+        this.vacate(slot);
+        return Optional.of(suspect);
+    }
+
+    /**
+     * Returns the one-based position of a suspect, or {@code 0} if they are not queued.
+     */
+    int position(final UUID suspectId) {
+        final Integer slot = this.slotsById.get(suspectId);
+        return slot == null ? 0 : this.countThrough(slot);
+    }
+
+    /**
+     * Returns up to {@code limit} suspects starting at the given zero-based offset.
+     */
+    List<QueuedSuspect> page(final int offset, final int limit) {
+        if (offset < 0 || limit <= 0 || offset >= this.size()) {
+            return Collections.emptyList();
+        }
+
+        final List<QueuedSuspect> page = new ArrayList<>(Math.min(limit, this.size() - offset));
+        for (int slot = this.findSlot(offset + 1); slot < this.tail && page.size() < limit; slot++) {
+            if (this.slots[slot] != null) {
+                page.add(this.slots[slot]);
+            }
+        }
+        return page;
+    }
+
+    private void vacate(final int slot) {
+        this.slotsById.remove(this.slots[slot].getSuspectId());
+        this.slots[slot] = null;
+        this.adjustOccupancy(slot, -1);
+    }
+
+    private void skipHoles() {
+        while (this.head < this.tail && this.slots[this.head] == null) {
+            this.head++;
+        }
+    }
+
+    private void compact() {
+        final int live = this.size();
+        final int capacity = Math.max(INITIAL_CAPACITY, live * 2);
+        final QueuedSuspect[] compacted = new QueuedSuspect[capacity];
+
+        int next = 0;
+        for (int slot = this.head; slot < this.tail; slot++) {
+            final QueuedSuspect suspect = this.slots[slot];
+            if (suspect != null) {
+                compacted[next] = suspect;
+                this.slotsById.put(suspect.getSuspectId(), next);
+                next++;
+            }
+        }
+
+        this.slots = compacted;
+        this.head = 0;
+        this.tail = next;
+        this.occupancy = new int[capacity + 1];
+        // Linear-time Fenwick construction over the occupied prefix.
+        for (int index = 1; index <= capacity; index++) {
+            if (index <= next) {
+                this.occupancy[index]++;
+            }
+            final int parent = index + (index & -index);
+            if (parent <= capacity) {
+                this.occupancy[parent] += this.occupancy[index];
+            }
+        }
+    }
+
+    private void adjustOccupancy(final int slot, final int delta) {
+        for (int index = slot + 1; index < this.occupancy.length; index += index & -index) {
+            this.occupancy[index] += delta;
+        }
+    }
+
+    private int countThrough(final int slot) {
+        int count = 0;
+        for (int index = slot + 1; index > 0; index -= index & -index) {
+            count += this.occupancy[index];
+        }
+        return count;
+    }
+
+    private int findSlot(final int rank) {
+        int index = 0;
+        int remaining = rank;
+        for (int step = Integer.highestOneBit(this.occupancy.length - 1); step > 0; step >>= 1) {
+            final int next = index + step;
+            if (next < this.occupancy.length && this.occupancy[next] < remaining) {
+                index = next;
+                remaining -= this.occupancy[next];
+            }
+        }
+        return index;
+    }
+}
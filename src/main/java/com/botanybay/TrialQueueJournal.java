@@ -0,0 +1,272 @@
+package com.botanybay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import org.slf4j.Logger;
+
+/**
+ * Append-only journal that persists the Botany Bay trial queue across restarts.
+ *
+ * <p>Every enqueue and dequeue is appended as a single checksummed record on a
+ * dedicated writer thread, so the main thread never touches the disk. Once the
+ * journal holds noticeably more dead records than live suspects it is compacted
+ * into a fresh file that is atomically swapped into place. A torn record left
+ * behind by a crash is detected by its checksum and truncated on the next load.</p>
+ */
+final class TrialQueueJournal {
+
+    private static final String FILE_NAME = "trial-queue.journal";
+    private static final byte RECORD_ENQUEUE = 1;
+    private static final byte RECORD_DEQUEUE = 2;
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int MIN_COMPACTION_DEAD_RECORDS = 256;
+
+    private final Path journalFile;
+    private final Path compactionFile;
+    private final Logger logger;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "BotanyBay-QueueJournal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only touched from the writer thread once load() has returned.
+    private final Map<UUID, QueuedSuspect> live = new LinkedHashMap<>();
+    private FileChannel channel;
+    private int deadRecords;
+
+    TrialQueueJournal(final Path directory, final Logger logger) {
+        this.journalFile = directory.resolve(FILE_NAME);
+        this.compactionFile = directory.resolve(FILE_NAME + ".compact");
+        this.logger = logger;
+    }
+
+    /**
+     * Replays the journal and opens it for appending.
+     *
+     * @return the suspects still waiting for trial, ordered by the time they were queued
+     */
+    List<QueuedSuspect> load() throws IOException {
+        Files.createDirectories(this.journalFile.getParent());
+        Files.deleteIfExists(this.compactionFile);
+
+        this.live.clear();
+        this.deadRecords = 0;
+        this.channel = FileChannel.open(this.journalFile,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            final long validLength = this.replay();
+            if (validLength < this.channel.size()) {
+                this.logger.warn("Discarding {} bytes of incomplete Botany Bay queue journal data.",
+                        this.channel.size() - validLength);
+                this.channel.truncate(validLength);
+                this.channel.force(true);
+            }
+            this.channel.position(validLength);
+        } catch (final IOException ex) {
+            // Leave the unreadable journal untouched rather than appending over its head.
+            this.channel.close();
+            this.channel = null;
+            throw ex;
+        }
+
+        final List<QueuedSuspect> restored = new ArrayList<>(this.live.values());
+        restored.sort(Comparator.comparing(QueuedSuspect::getQueuedAt));
+        return restored;
+    }
+
+    void recordEnqueue(final QueuedSuspect suspect) {
+        this.writer.execute(() -> {
+            if (this.live.putIfAbsent(suspect.getSuspectId(), suspect) == null) {
+                this.append(encodeEnqueue(suspect));
+            }
+        });
+    }
+
+    void recordDequeue(final UUID suspectId) {
+        this.writer.execute(() -> {
+            if (this.live.remove(suspectId) != null) {
+                this.append(encodeDequeue(suspectId));
+                this.deadRecords += 2;
+                this.compactIfNeeded();
+            }
+        });
+    }
+
+    /**
+     * Flushes outstanding records and releases the journal file.
+     */
+    void close() {
+        this.writer.shutdown();
+        try {
+            if (!this.writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                this.logger.warn("Timed out waiting for the Botany Bay queue journal to flush.");
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+            } catch (final IOException ex) {
+                this.logger.warn("Failed to close the Botany Bay queue journal: {}", ex.getMessage());
+            }
+            this.channel = null;
+        }
+    }
+
+    private long replay() throws IOException {
+        final long size = this.channel.size();
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        final CRC32 crc = new CRC32();
+        long position = 0L;
+
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            this.channel.read(header, position);
+            header.flip();
+            final int length = header.getInt();
+            final int checksum = header.getInt();
+            if (length <= 0 || position + HEADER_BYTES + length > size) {
+                break;
+            }
+
+            final ByteBuffer payload = ByteBuffer.allocate(length);
+            this.channel.read(payload, position + HEADER_BYTES);
+            crc.reset();
+            crc.update(payload.array(), 0, length);
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+
+            this.apply(payload.array());
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private void apply(final byte[] payload) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        final byte type = in.readByte();
+        final UUID suspectId = new UUID(in.readLong(), in.readLong());
+        if (type == RECORD_ENQUEUE) {
+            final Instant queuedAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+            final String name = in.readUTF();
+            final String accusation = in.readUTF();
+            this.live.put(suspectId, new QueuedSuspect(suspectId, name, accusation, queuedAt));
+        } else if (type == RECORD_DEQUEUE) {
+            if (this.live.remove(suspectId) != null) {
+                this.deadRecords++;
+            }
+            this.deadRecords++;
+        } else {
+            throw new IOException("Unknown Botany Bay queue journal record type " + type);
+        }
+    }
+
+    private void append(final byte[] payload) {
+        if (this.channel == null) {
+            return;
+        }
+
+        try {
+            this.channel.write(frame(payload));
+            this.channel.force(false);
+        } catch (final IOException ex) {
+            this.logger.error("Failed to write to the Botany Bay queue journal: {}", ex.getMessage(), ex);
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (this.channel == null || this.deadRecords < Math.max(MIN_COMPACTION_DEAD_RECORDS, this.live.size())) {
+            return;
+        }
+
+        try (FileChannel compacted = FileChannel.open(this.compactionFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (final QueuedSuspect suspect : this.live.values()) {
+                compacted.write(frame(encodeEnqueue(suspect)));
+            }
+            compacted.force(true);
+        } catch (final IOException ex) {
+            this.logger.error("Failed to compact the Botany Bay queue journal: {}", ex.getMessage(), ex);
+            return;
+        }
+
+        try {
+            this.channel.close();
+            Files.move(this.compactionFile, this.journalFile,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            this.deadRecords = 0;
+        } catch (final IOException ex) {
+            this.logger.error("Failed to swap in the compacted Botany Bay queue journal: {}", ex.getMessage(), ex);
+        }
+
+        try {
+            this.channel = FileChannel.open(this.journalFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (final IOException ex) {
+            this.channel = null;
+            this.logger.error("Failed to reopen the Botany Bay queue journal; queue changes will not be saved: {}",
+                    ex.getMessage(), ex);
+        }
+    }
+
+    private static ByteBuffer frame(final byte[] payload) {
+        final CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+
+        final ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static byte[] encodeEnqueue(final QueuedSuspect suspect) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(RECORD_ENQUEUE);
+            out.writeLong(suspect.getSuspectId().getMostSignificantBits());
+            out.writeLong(suspect.getSuspectId().getLeastSignificantBits());
+            out.writeLong(suspect.getQueuedAt().getEpochSecond());
+            out.writeInt(suspect.getQueuedAt().getNano());
+            out.writeUTF(suspect.getSuspectName());
+            out.writeUTF(suspect.getAccusation());
+        } catch (final IOException ex) {
+            throw new IllegalStateException("Failed to encode queued suspect", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodeDequeue(final UUID suspectId) {
+        return ByteBuffer.allocate(1 + Long.BYTES * 2)
+                .put(RECORD_DEQUEUE)
+                .putLong(suspectId.getMostSignificantBits())
+                .putLong(suspectId.getLeastSignificantBits())
+                .array();
+    }
+}
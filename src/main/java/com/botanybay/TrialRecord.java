@@ -0,0 +1,99 @@
+package com.botanybay;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable account of a finished Botany Bay trial, as kept in the {@link TrialHistory}.
+ */
+final class TrialRecord {
+
+    private final UUID suspectId;
+    private final String suspectName;
+    private final String accusation;
+    private final String arenaName;
+    private final Instant startedAt;
+    private final Instant endedAt;
+    private final PunishmentOption verdict;
+    private final Map<UUID, PunishmentOption> ballots;
+    private final int[] tally = new int[PunishmentOption.values().length];
+
+    /**
+     * @param arenaName the arena the trial was held in, or {@code null} if it had none
+     * @param verdict the punishment decided on, or {@code null} if the trial ended without a verdict
+     */
+    TrialRecord(final UUID suspectId, final String suspectName, final String accusation, final String arenaName,
+            final Instant startedAt, final Instant endedAt, final PunishmentOption verdict,
+            final Map<UUID, PunishmentOption> ballots) {
+        this.suspectId = suspectId;
+        this.suspectName = suspectName;
+        this.accusation = accusation;
+        this.arenaName = arenaName;
+        this.startedAt = startedAt;
+        this.endedAt = endedAt;
+        this.verdict = verdict;
+        this.ballots = Collections.unmodifiableMap(new LinkedHashMap<>(ballots));
+        for (final PunishmentOption option : this.ballots.values()) {
+            tally[option.ordinal()]++;
+        }
+    }
+
+    /**
+     * Captures a closed session, so its ballots no longer change.
+     */
+    static TrialRecord of(final TrialSession session, final Optional<PunishmentOption> verdict) {
+        return new TrialRecord(session.getSuspectId(), session.getSuspectName(), session.getAccusation(),
+                session.getZoneName().orElse(null), session.getStartedAt(), Instant.now(), verdict.orElse(null),
+                session.getBallots());
+    }
+
+    UUID getSuspectId() {
+        return suspectId;
+    }
+
+    String getSuspectName() {
+        return suspectName;
+    }
+
+    String getAccusation() {
+        return accusation;
+    }
+
+    Optional<String> getArenaName() {
+        return Optional.ofNullable(arenaName);
+    }
+
+    Instant getStartedAt() {
+        return startedAt;
+    }
+
+    Instant getEndedAt() {
+        return endedAt;
+    }
+
+    /**
+     * Returns the punishment decided on, or nothing if the trial ended without a verdict.
+     */
+    Optional<PunishmentOption> getVerdict() {
+        return Optional.ofNullable(verdict);
+    }
+
+    /**
+     * Returns each voter's final choice.
+     */
+    Map<UUID, PunishmentOption> getBallots() {
+        return ballots;
+    }
+
+    int getVoteCount(final PunishmentOption option) {
+        return tally[option.ordinal()];
+    }
+
+    int getTotalVotes() {
+        return ballots.size();
+    }
+}
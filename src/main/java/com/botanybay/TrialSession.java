@@ -1,28 +1,73 @@
 package com.botanybay;
 
-import java.time.Duration;
 import java.time.Instant;
-import java.util.EnumMap;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Tracks a single Botany Bay trial and the votes cast during it.
+ *
+ * <p>The tally is maintained incrementally as votes arrive, so reading the
+ * standings never requires walking the individual ballots. Votes may be cast
+ * from any thread: ballots live in a concurrent map and each option keeps a
+ * striped counter, so no global lock is taken on the voting path. While the
+ * trial is open the counters are a best-effort live view; once {@link #close()}
+ * returns they are frozen and exact.</p>
+ *
+ * <p>The voting deadline is kept in server ticks as counted by the
+ * {@link TrialTimerWheel}, so the remaining time can be read without consulting
+ * the wall clock.</p>
  */
 final class TrialSession {
 
+    /**
+     * Result of submitting a ballot to the session.
+     */
+    enum BallotStatus {
+        /** The voter had not voted before. */
+        RECORDED,
+        /** The voter switched from another option. */
+        CHANGED,
+        /** The voter repeated the option they had already chosen. */
+        UNCHANGED,
+        /** The trial was closed before the ballot could be counted. */
+        CLOSED;
+
+        boolean isAccepted() {
+            return this != CLOSED;
+        }
+    }
+
     private final UUID suspectId;
     private final String suspectName;
     private final String accusation;
+    private final String zoneName;
     private final Instant startedAt;
-    private final Map<UUID, PunishmentOption> votes = new HashMap<>();
+    private final long startTick;
+    private long deadlineTick;
+    private final ConcurrentMap<UUID, PunishmentOption> votes = new ConcurrentHashMap<>();
+    private final LongAdder[] tally = new LongAdder[PunishmentOption.values().length];
+    private final AtomicInteger ballotsInFlight = new AtomicInteger();
+    private volatile boolean closed;
 
-    TrialSession(final UUID suspectId, final String suspectName, final String accusation) {
+    TrialSession(final UUID suspectId, final String suspectName, final String accusation, final String zoneName,
+            final long startTick, final long durationTicks) {
         this.suspectId = suspectId;
         this.suspectName = suspectName;
         this.accusation = accusation;
+        this.zoneName = zoneName;
         this.startedAt = Instant.now();
+        this.startTick = startTick;
+        this.deadlineTick = startTick + durationTicks;
+        for (int i = 0; i < tally.length; i++) {
+            tally[i] = new LongAdder();
+        }
     }
 
     UUID getSuspectId() {
@@ -37,30 +82,105 @@ final class TrialSession {
         return accusation;
     }
 
+    /**
+     * Returns the voting zone this trial is held in, if it was assigned one.
+     */
+    Optional<String> getZoneName() {
+        return Optional.ofNullable(zoneName);
+    }
+
     Instant getStartedAt() {
         return startedAt;
     }
 
-    Duration elapsed() {
-        return Duration.between(startedAt, Instant.now());
+    /**
+     * Returns the total length of the vote window in ticks, including any extensions.
+     */
+    long getDurationTicks() {
+        return deadlineTick - startTick;
+    }
+
+    long getDeadlineTick() {
+        return deadlineTick;
+    }
+
+    long remainingTicks(final long currentTick) {
+        return Math.max(0L, deadlineTick - currentTick);
+    }
+
+    /**
+     * Pushes the voting deadline back. Only called from the main server thread.
+     */
+    void extendDeadline(final long ticks) {
+        deadlineTick += ticks;
     }
 
-    void castVote(final UUID voter, final PunishmentOption option) {
-        votes.put(voter, option);
+    /**
+     * Records a ballot. Safe to call from any thread.
+     */
+    BallotStatus castVote(final UUID voter, final PunishmentOption option) {
+        ballotsInFlight.incrementAndGet();
+        try {
+            if (closed) {
+                return BallotStatus.CLOSED;
+            }
+
+            final BallotStatus[] status = new BallotStatus[1];
+            votes.compute(voter, (id, previous) -> {
+                if (previous == option) {
+                    status[0] = BallotStatus.UNCHANGED;
+                    return previous;
+                }
+                if (previous != null) {
+                    tally[previous.ordinal()].decrement();
+                    status[0] = BallotStatus.CHANGED;
+                } else {
+                    status[0] = BallotStatus.RECORDED;
+                }
+                tally[option.ordinal()].increment();
+                return option;
+            });
+            return status[0];
+        } finally {
+            ballotsInFlight.decrementAndGet();
+        }
     }
 
     boolean hasVoted(final UUID voter) {
         return votes.containsKey(voter);
     }
 
-    Map<PunishmentOption, Integer> getVoteCounts() {
-        final Map<PunishmentOption, Integer> counts = new EnumMap<>(PunishmentOption.class);
-        for (final PunishmentOption option : PunishmentOption.values()) {
-            counts.put(option, 0);
-        }
-        for (final PunishmentOption vote : votes.values()) {
-            counts.computeIfPresent(vote, (key, value) -> value + 1);
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops accepting ballots and waits for any ballot already being counted to
+     * finish. After this returns the tally no longer changes, so every read of
+     * {@link #getVoteCount(PunishmentOption)} observes the same final standings.
+     */
+    void close() {
+        closed = true;
+        while (ballotsInFlight.get() != 0) {
+            Thread.onSpinWait();
         }
-        return counts;
+    }
+
+    /**
+     * Returns the number of votes currently held by the given option.
+     */
+    int getVoteCount(final PunishmentOption option) {
+        return tally[option.ordinal()].intValue();
+    }
+
+    int getTotalVotes() {
+        return votes.size();
+    }
+
+    /**
+     * Returns a live, read-only view of each voter's current choice.
+     */
+    Map<UUID, PunishmentOption> getBallots() {
+        return Collections.unmodifiableMap(votes);
     }
 }
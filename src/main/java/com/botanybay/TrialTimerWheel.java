@@ -0,0 +1,176 @@
+package com.botanybay;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+
+/**
+ * Hashed timer wheel that drives every trial deadline from a single repeating
+ * one-tick task.
+ *
+ * <p>Timeouts are hashed by their deadline tick into a fixed number of buckets,
+ * each an intrusive doubly-linked list, so scheduling and cancelling are O(1)
+ * and each tick only inspects the bucket it lands on. Deadlines further away
+ * than one revolution of the wheel simply stay in their bucket until their tick
+ * comes round. Time is measured in server ticks rather than wall-clock time, so
+ * a lagging server stretches the countdown instead of cutting trials short.</p>
+ *
+ * <p>Must only be used from the main server thread.</p>
+ */
+final class TrialTimerWheel {
+
+    static final int TICKS_PER_SECOND = 20;
+
+    private final PluginContainer plugin;
+    private final Timeout[] buckets;
+    private final int mask;
+    private final List<Timeout> expired = new ArrayList<>();
+    private long currentTick;
+    private ScheduledTask task;
+
+    /**
+     * @param wheelSize number of buckets, rounded up to a power of two
+     */
+    TrialTimerWheel(final PluginContainer plugin, final int wheelSize) {
+        final int size = Integer.highestOneBit(Math.max(2, wheelSize - 1)) << 1;
+        this.plugin = plugin;
+        this.buckets = new Timeout[size];
+        this.mask = size - 1;
+    }
+
+    void start() {
+        if (this.task != null) {
+            return;
+        }
+        this.task = Sponge.server().scheduler().submit(Task.builder()
+                .plugin(this.plugin)
+                .interval(Ticks.single())
+                .execute(this::advance)
+                .build());
+    }
+
+    void stop() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+    }
+
+    /**
+     * Returns the number of ticks the wheel has advanced since it was created.
+     */
+    long currentTick() {
+        return this.currentTick;
+    }
+
+    /**
+     * Runs the action once, {@code delayTicks} ticks from now (at least one).
+     */
+    Timeout schedule(final long delayTicks, final Runnable action) {
+        final Timeout timeout = new Timeout(action, 0L);
+        this.insert(timeout, this.currentTick + Math.max(1L, delayTicks));
+        return timeout;
+    }
+
+    /**
+     * Runs the action every {@code periodTicks} ticks, starting {@code delayTicks} from now,
+     * until the returned timeout is cancelled.
+     */
+    Timeout scheduleRepeating(final long delayTicks, final long periodTicks, final Runnable action) {
+        final Timeout timeout = new Timeout(action, Math.max(1L, periodTicks));
+        this.insert(timeout, this.currentTick + Math.max(1L, delayTicks));
+        return timeout;
+    }
+
+    void advance() {
+        this.currentTick++;
+        final int bucket = (int) (this.currentTick & this.mask);
+
+        // Collect first and fire afterwards so actions may freely schedule or
+        // cancel timeouts in the bucket being walked.
+        for (Timeout timeout = this.buckets[bucket]; timeout != null; timeout = timeout.next) {
+            if (timeout.deadline <= this.currentTick) {
+                this.expired.add(timeout);
+            }
+        }
+
+        for (int i = 0; i < this.expired.size(); i++) {
+            final Timeout timeout = this.expired.get(i);
+            if (timeout.cancelled) {
+                continue;
+            }
+            this.unlink(timeout);
+            if (timeout.period > 0L) {
+                this.insert(timeout, this.currentTick + timeout.period);
+            }
+            timeout.action.run();
+        }
+        this.expired.clear();
+    }
+
+    private void insert(final Timeout timeout, final long deadline) {
+        final int bucket = (int) (deadline & this.mask);
+        timeout.deadline = deadline;
+        timeout.bucket = bucket;
+        timeout.prev = null;
+        timeout.next = this.buckets[bucket];
+        if (timeout.next != null) {
+            timeout.next.prev = timeout;
+        }
+        this.buckets[bucket] = timeout;
+    }
+
+    private void unlink(final Timeout timeout) {
+        if (timeout.bucket < 0) {
+            return;
+        }
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            this.buckets[timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = -1;
+    }
+
+    /**
+     * Handle to a scheduled action.
+     */
+    final class Timeout {
+        private final Runnable action;
+        private final long period;
+        private long deadline;
+        private int bucket = -1;
+        private Timeout prev;
+        private Timeout next;
+        private boolean cancelled;
+
+        private Timeout(final Runnable action, final long period) {
+            this.action = action;
+            this.period = period;
+        }
+
+        long remainingTicks() {
+            return Math.max(0L, this.deadline - TrialTimerWheel.this.currentTick);
+        }
+
+        boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        void cancel() {
+            if (!this.cancelled) {
+                this.cancelled = true;
+                TrialTimerWheel.this.unlink(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.botanybay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+
+/**
+ * Append-only audit trail of every ballot cast in a Botany Bay trial, kept so
+ * vote brigading can be investigated after the trial has ended.
+ *
+ * <p>The file starts with a {@value #HEADER_BYTES}-byte header (magic, format
+ * version, record size) followed by fixed-width {@value #RECORD_BYTES}-byte
+ * big-endian records:</p>
+ * <pre>
+ *   suspect id        16 bytes   together with the trial start, identifies the trial
+ *   trial started at   8 bytes   epoch millis, as in the {@link TrialHistory}
+ *   voter id          16 bytes
+ *   cast at            8 bytes   epoch millis
+ *   option             1 byte    {@link PunishmentOption} ordinal
+ *   status             1 byte    {@link TrialSession.BallotStatus} ordinal
+ * </pre>
+ *
+ * <p>The calling thread only hands the ballot to a dedicated writer thread,
+ * which packs records into a direct buffer and writes it out when it fills up
+ * and at least once a second. A record torn by a crash is truncated on the
+ * next open.</p>
+ */
+final class VoteAuditLog {
+
+    static final int HEADER_BYTES = 8;
+    static final int RECORD_BYTES = 50;
+
+    private static final String FILE_NAME = "vote-audit.log";
+    private static final int MAGIC = 0x42425641;
+    private static final short FORMAT_VERSION = 1;
+    private static final int BUFFERED_RECORDS = 1024;
+    private static final long FLUSH_INTERVAL_MILLIS = 1000L;
+
+    private final Path auditFile;
+    private final Logger logger;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "BotanyBay-VoteAudit");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only touched from the writer thread once open() has returned.
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_BYTES * BUFFERED_RECORDS);
+    private FileChannel channel;
+
+    VoteAuditLog(final Path directory, final Logger logger) {
+        this.auditFile = directory.resolve(FILE_NAME);
+        this.logger = logger;
+    }
+
+    /**
+     * Opens the log for appending, writing the header to a new file and
+     * dropping any incomplete trailing record.
+     */
+    void open() throws IOException {
+        Files.createDirectories(this.auditFile.getParent());
+        this.channel = FileChannel.open(this.auditFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        try {
+            final long size = this.channel.size();
+            if (size == 0L) {
+                final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                        .putInt(MAGIC)
+                        .putShort(FORMAT_VERSION)
+                        .putShort((short) RECORD_BYTES);
+                header.flip();
+                this.channel.write(header, 0L);
+            } else {
+                this.checkHeader();
+                final long validLength = size - (size - HEADER_BYTES) % RECORD_BYTES;
+                if (validLength < size) {
+                    this.logger.warn("Discarding {} bytes of incomplete Botany Bay vote audit data.",
+                            size - validLength);
+                    this.channel.truncate(validLength);
+                }
+            }
+            this.channel.position(this.channel.size());
+        } catch (final IOException ex) {
+            this.channel.close();
+            this.channel = null;
+            throw ex;
+        }
+
+        this.writer.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues an accepted ballot for the audit trail. Safe to call from any thread.
+     */
+    void record(final TrialSession session, final UUID voter, final PunishmentOption option,
+            final TrialSession.BallotStatus status) {
+        final UUID suspectId = session.getSuspectId();
+        final long startedAt = session.getStartedAt().toEpochMilli();
+        final long castAt = System.currentTimeMillis();
+        this.writer.execute(() -> {
+            if (this.channel == null) {
+                return;
+            }
+            if (this.buffer.remaining() < RECORD_BYTES) {
+                this.flush();
+            }
+            this.buffer.putLong(suspectId.getMostSignificantBits())
+                    .putLong(suspectId.getLeastSignificantBits())
+                    .putLong(startedAt)
+                    .putLong(voter.getMostSignificantBits())
+                    .putLong(voter.getLeastSignificantBits())
+                    .putLong(castAt)
+                    .put((byte) option.ordinal())
+                    .put((byte) status.ordinal());
+        });
+    }
+
+    /**
+     * Writes out buffered records and releases the log file.
+     */
+    void close() {
+        this.writer.execute(() -> {
+            this.flush();
+            if (this.channel != null) {
+                try {
+                    this.channel.force(true);
+                } catch (final IOException ex) {
+                    this.logger.warn("Failed to sync the Botany Bay vote audit log: {}", ex.getMessage());
+                }
+            }
+        });
+        this.writer.shutdown();
+        try {
+            if (!this.writer.awaitTermination(10, TimeUnit.SECONDS)) {
+                this.logger.warn("Timed out waiting for the Botany Bay vote audit log to flush.");
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (this.channel != null) {
+            try {
+                this.channel.close();
+            } catch (final IOException ex) {
+                this.logger.warn("Failed to close the Botany Bay vote audit log: {}", ex.getMessage());
+            }
+            this.channel = null;
+        }
+    }
+
+    private void checkHeader() throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        this.channel.read(header, 0L);
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getShort() != FORMAT_VERSION
+                || header.getShort() != RECORD_BYTES) {
+            throw new IOException(this.auditFile + " is not a Botany Bay vote audit log in the current format; "
+                    + "move it aside to start a new one");
+        }
+    }
+
+    private void flush() {
+        if (this.channel == null || this.buffer.position() == 0) {
+            return;
+        }
+
+        this.buffer.flip();
+        try {
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+        } catch (final IOException ex) {
+            this.logger.error("Failed to write to the Botany Bay vote audit log: {}", ex.getMessage(), ex);
+        } finally {
+            this.buffer.clear();
+        }
+    }
+}
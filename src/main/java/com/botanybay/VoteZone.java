@@ -1,76 +1,102 @@
 package com.botanybay;
 
-
 import java.util.UUID;
 
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.math.vector.Vector3i;
 
-
-import com.flowpowered.math.vector.Vector3i;
-import java.util.UUID;
-import org.spongepowered.api.world.Location;
-import org.spongepowered.api.world.World;
-
-
 /**
  * Represents an axis-aligned cuboid region that bounds the Botany Bay voting area.
+ *
+ * <p>Bounds are stored as primitive block coordinates so the primitive
+ * {@code contains} overloads can be called for every online player each tick
+ * without creating any garbage.</p>
  */
 public final class VoteZone {
 
+    private final String name;
     private final UUID worldId;
-    private final Vector3i min;
-    private final Vector3i max;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+
+    public VoteZone(final String name, final UUID worldId, final Vector3i min, final Vector3i max) {
+        this(name, worldId, min.x(), min.y(), min.z(), max.x(), max.y(), max.z());
+    }
 
-    public VoteZone(final UUID worldId, final Vector3i min, final Vector3i max) {
+    public VoteZone(final String name, final UUID worldId, final int minX, final int minY, final int minZ,
+            final int maxX, final int maxY, final int maxZ) {
+        this.name = name;
         this.worldId = worldId;
-        this.min = min;
-        this.max = max;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    public String getName() {
+        return this.name;
     }
 
     public UUID getWorldId() {
         return this.worldId;
     }
 
-    public Vector3i getMin() {
-        return this.min;
+    public int getMinX() {
+        return this.minX;
     }
 
-    public Vector3i getMax() {
-        return this.max;
+    public int getMinY() {
+        return this.minY;
     }
 
-    public boolean contains(final ServerLocation location) {
-        if (!location.world().uniqueId().equals(this.worldId)) {
-            return false;
-        }
+    public int getMinZ() {
+        return this.minZ;
+    }
 
-        final Vector3i block = location.blockPosition();
-        return block.x() >= this.min.x() && block.x() <= this.max.x()
-                && block.y() >= this.min.y() && block.y() <= this.max.y()
-                && block.z() >= this.min.z() && block.z() <= this.max.z();
+    public int getMaxX() {
+        return this.maxX;
+    }
 
+    public int getMaxY() {
+        return this.maxY;
+    }
 
-        return worldId;
+    public int getMaxZ() {
+        return this.maxZ;
     }
 
     public Vector3i getMin() {
-        return min;
+        return new Vector3i(this.minX, this.minY, this.minZ);
     }
 
     public Vector3i getMax() {
-        return max;
+        return new Vector3i(this.maxX, this.maxY, this.maxZ);
     }
 
-    public boolean contains(final Location<World> location) {
-        if (!location.getExtent().getUniqueId().equals(worldId)) {
-            return false;
-        }
+    public boolean contains(final ServerLocation location) {
+        return this.contains(location.world().uniqueId(), location.blockX(), location.blockY(), location.blockZ());
+    }
 
-        final Vector3i block = location.getBlockPosition();
-        return block.getX() >= min.getX() && block.getX() <= max.getX()
-                && block.getY() >= min.getY() && block.getY() <= max.getY()
-                && block.getZ() >= min.getZ() && block.getZ() <= max.getZ();
+    /**
+     * Checks whether an entity position lies inside this zone.
+     */
+    public boolean contains(final UUID worldId, final double x, final double y, final double z) {
+        return this.contains(worldId, (int) Math.floor(x), (int) Math.floor(y), (int) Math.floor(z));
+    }
 
+    /**
+     * Checks whether a block position lies inside this zone.
+     */
+    public boolean contains(final UUID worldId, final int x, final int y, final int z) {
+        return x >= this.minX && x <= this.maxX
+                && y >= this.minY && y <= this.maxY
+                && z >= this.minZ && z <= this.maxZ
+                && this.worldId.equals(worldId);
     }
 }
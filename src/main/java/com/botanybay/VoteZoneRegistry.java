@@ -0,0 +1,229 @@
+package com.botanybay;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+import org.spongepowered.api.world.server.ServerLocation;
+
+/**
+ * Holds every named Botany Bay voting zone across all worlds.
+ *
+ * <p>Zones are bucketed into a per-world grid of chunk-sized cells. Each cell
+ * lists the zones that overlap it, so finding the zone around a position only
+ * has to test the handful of zones sharing that chunk, however many arenas are
+ * registered overall.</p>
+ */
+final class VoteZoneRegistry {
+
+    private static final int CELL_SHIFT = 4;
+    private static final VoteZone[] NO_ZONES = new VoteZone[0];
+
+    private final Map<String, VoteZone> zonesByName = new LinkedHashMap<>();
+    private final Map<UUID, CellMap> cellsByWorld = new HashMap<>();
+
+    boolean isEmpty() {
+        return this.zonesByName.isEmpty();
+    }
+
+    Collection<VoteZone> zones() {
+        return Collections.unmodifiableCollection(this.zonesByName.values());
+    }
+
+    Optional<VoteZone> get(final String name) {
+        return Optional.ofNullable(this.zonesByName.get(normalize(name)));
+    }
+
+    /**
+     * Registers a zone, replacing any zone previously registered under the same name.
+     */
+    Optional<VoteZone> register(final VoteZone zone) {
+        final Optional<VoteZone> previous = this.unregister(zone.getName());
+        this.zonesByName.put(normalize(zone.getName()), zone);
+
+        final CellMap cells = this.cellsByWorld.computeIfAbsent(zone.getWorldId(), id -> new CellMap());
+        forEachCell(zone, key -> {
+            final VoteZone[] found = cells.get(key);
+            final VoteZone[] existing = found == null ? NO_ZONES : found;
+            final VoteZone[] updated = new VoteZone[existing.length + 1];
+            System.arraycopy(existing, 0, updated, 0, existing.length);
+            updated[existing.length] = zone;
+            cells.put(key, updated);
+        });
+        return previous;
+    }
+
+    Optional<VoteZone> unregister(final String name) {
+        final VoteZone removed = this.zonesByName.remove(normalize(name));
+        if (removed == null) {
+            return Optional.empty();
+        }
+
+        final CellMap cells = this.cellsByWorld.get(removed.getWorldId());
+        forEachCell(removed, key -> {
+            final VoteZone[] existing = cells.get(key);
+            final List<VoteZone> remaining = new ArrayList<>(existing.length);
+            for (final VoteZone zone : existing) {
+                if (zone != removed) {
+                    remaining.add(zone);
+                }
+            }
+            if (remaining.isEmpty()) {
+                cells.remove(key);
+            } else {
+                cells.put(key, remaining.toArray(NO_ZONES));
+            }
+        });
+        if (cells.isEmpty()) {
+            this.cellsByWorld.remove(removed.getWorldId());
+        }
+        return Optional.of(removed);
+    }
+
+    /**
+     * Returns the first registered zone containing the given location, if any.
+     */
+    Optional<VoteZone> zoneAt(final ServerLocation location) {
+        return Optional.ofNullable(this.findZone(location.world().uniqueId(),
+                location.blockX(), location.blockY(), location.blockZ()));
+    }
+
+    /**
+     * Returns the first registered zone containing the given block, or
+     * {@code null} if there is none. Allocation-free, for per-tick callers.
+     */
+    VoteZone findZone(final UUID worldId, final int x, final int y, final int z) {
+        final CellMap cells = this.cellsByWorld.get(worldId);
+        if (cells == null) {
+            return null;
+        }
+
+        final VoteZone[] candidates = cells.get(cellKey(x >> CELL_SHIFT, z >> CELL_SHIFT));
+        if (candidates == null) {
+            return null;
+        }
+        for (final VoteZone zone : candidates) {
+            if (zone.contains(worldId, x, y, z)) {
+                return zone;
+            }
+        }
+        return null;
+    }
+
+    VoteZone findZone(final UUID worldId, final double x, final double y, final double z) {
+        return this.findZone(worldId, (int) Math.floor(x), (int) Math.floor(y), (int) Math.floor(z));
+    }
+
+    private static void forEachCell(final VoteZone zone, final LongConsumer action) {
+        final int minCellX = zone.getMinX() >> CELL_SHIFT;
+        final int maxCellX = zone.getMaxX() >> CELL_SHIFT;
+        final int minCellZ = zone.getMinZ() >> CELL_SHIFT;
+        final int maxCellZ = zone.getMaxZ() >> CELL_SHIFT;
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                action.accept(cellKey(cellX, cellZ));
+            }
+        }
+    }
+
+    private static long cellKey(final int cellX, final int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static String normalize(final String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Open-addressing map from packed cell coordinates to the zones in that
+     * cell. Avoids boxing the key on every lookup.
+     */
+    private static final class CellMap {
+
+        private long[] keys = new long[16];
+        private VoteZone[][] values = new VoteZone[16][];
+        private int size;
+
+        boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        VoteZone[] get(final long key) {
+            final int mask = this.keys.length - 1;
+            for (int index = mix(key) & mask; this.values[index] != null; index = (index + 1) & mask) {
+                if (this.keys[index] == key) {
+                    return this.values[index];
+                }
+            }
+            return null;
+        }
+
+        void put(final long key, final VoteZone[] zones) {
+            if ((this.size + 1) * 2 > this.keys.length) {
+                this.resize(this.keys.length * 2);
+            }
+
+            final int mask = this.keys.length - 1;
+            int index = mix(key) & mask;
+            while (this.values[index] != null) {
+                if (this.keys[index] == key) {
+                    this.values[index] = zones;
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+            this.keys[index] = key;
+            this.values[index] = zones;
+            this.size++;
+        }
+
+        void remove(final long key) {
+            final int mask = this.keys.length - 1;
+            int index = mix(key) & mask;
+            while (this.values[index] != null && this.keys[index] != key) {
+                index = (index + 1) & mask;
+            }
+            if (this.values[index] == null) {
+                return;
+            }
+
+            this.values[index] = null;
+            this.size--;
+            // Shift back any later entries of the same probe run so lookups keep finding them.
+            for (int next = (index + 1) & mask; this.values[next] != null; next = (next + 1) & mask) {
+                final int home = mix(this.keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - index) & mask)) {
+                    this.keys[index] = this.keys[next];
+                    this.values[index] = this.values[next];
+                    this.values[next] = null;
+                    index = next;
+                }
+            }
+        }
+
+        private void resize(final int capacity) {
+            final long[] oldKeys = this.keys;
+            final VoteZone[][] oldValues = this.values;
+            this.keys = new long[capacity];
+            this.values = new VoteZone[capacity][];
+            this.size = 0;
+            for (int index = 0; index < oldKeys.length; index++) {
+                if (oldValues[index] != null) {
+                    this.put(oldKeys[index], oldValues[index]);
+                }
+            }
+        }
+
+        private static int mix(final long key) {
+            final long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32));
+        }
+    }
+}